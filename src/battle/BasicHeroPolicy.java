@@ -0,0 +1,41 @@
+package battle;
+
+import characters.Hero;
+import characters.Monster;
+import items.Potion;
+import items.Spell;
+
+// Simple scripted hero behaviour for headless battles
+// Drinks a health potion when low, casts the first affordable spell, otherwise attacks.
+// Always focuses the monster with the lowest HP.
+public class BasicHeroPolicy implements HeroActionPolicy {
+    private static final double LOW_HP_RATIO = 0.3;
+
+    @Override
+    public HeroAction chooseAction(Battle battle, Hero hero) {
+        Monster target = weakestMonster(battle);
+        if (target == null) return null;
+
+        // heal up first if we're about to go down
+        if (hero.getHp() < hero.getMaxHp() * LOW_HP_RATIO) {
+            for (Potion potion : hero.getInventory().getPotions()) {
+                if (potion.affectsHealth()) return HeroAction.usePotion(potion);
+            }
+        }
+
+        for (Spell spell : hero.getInventory().getSpells()) {
+            if (hero.hasMana(spell.getManaCost())) return HeroAction.castSpell(spell, target);
+        }
+
+        return HeroAction.attack(target);
+    }
+
+    private Monster weakestMonster(Battle battle) {
+        Monster best = null;
+        for (int i = 0; i < battle.getAliveMonsterCount(); i++) {
+            Monster m = battle.getAliveMonster(i);
+            if (best == null || m.getHp() < best.getHp()) best = m;
+        }
+        return best;
+    }
+}
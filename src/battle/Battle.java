@@ -1,37 +1,145 @@
 package battle;
 
 import characters.*;
+import characters.Character;
 import items.Potion;
 import items.Spell;
+import utils.BattleAction;
 import utils.GameConstants;
+import utils.Rng;
 import utils.SpellType;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 
 // Battle system - handles combat between heroes and monsters
 // Manages attacks, spells, potions, damage calc, and who wins
 public class Battle {
     private final List<Hero> heroes;
     private final List<Monster> monsters;
-    private final Random random;
+    private final List<Hero> heroesView;     // read-only views handed out by the getters
+    private final List<Monster> monstersView;
+    private final Rng random;
     private boolean battleEnded;
     private boolean heroesWon;
     
+    // Alive bookkeeping, updated as units faint or revive so that the end-of-battle
+    // check and monster target selection are O(1) instead of rebuilding lists.
+    // aliveXSlots[0..count) holds indexes into heroes/monsters (unordered, swap-removed);
+    // xAlivePos maps an index back to its position in that array (-1 = fainted).
+    private final int[] aliveHeroSlots;
+    private final int[] heroAlivePos;
+    private int aliveHeroCount;
+    private final int[] aliveMonsterSlots;
+    private final int[] monsterAlivePos;
+    private int aliveMonsterCount;
+    private final Map<Monster, Integer> monsterSlots = new IdentityHashMap<>();
+    
     public Battle(List<Hero> heroes, List<Monster> monsters) {
+        this(heroes, monsters, new Rng());
+    }
+    
+    // same as above but with a caller-supplied random stream (seeded games, headless sims)
+    public Battle(List<Hero> heroes, List<Monster> monsters, Rng random) {
         this.heroes = new ArrayList<>(heroes);
         this.monsters = new ArrayList<>(monsters);
-        this.random = new Random();
+        this.heroesView = Collections.unmodifiableList(this.heroes);
+        this.monstersView = Collections.unmodifiableList(this.monsters);
+        this.random = random;
         this.battleEnded = false;
         this.heroesWon = false;
+        
+        this.aliveHeroSlots = new int[this.heroes.size()];
+        this.heroAlivePos = new int[this.heroes.size()];
+        this.aliveMonsterSlots = new int[this.monsters.size()];
+        this.monsterAlivePos = new int[this.monsters.size()];
+        for (int i = 0; i < this.monsters.size(); i++) {
+            monsterSlots.put(this.monsters.get(i), i);
+        }
+        rebuildAliveIndex();
+    }
+    
+    // recount who is alive from the units' HP (used at start and after external HP changes)
+    void rebuildAliveIndex() {
+        aliveHeroCount = 0;
+        for (int i = 0; i < heroes.size(); i++) {
+            if (heroes.get(i).isAlive()) {
+                heroAlivePos[i] = aliveHeroCount;
+                aliveHeroSlots[aliveHeroCount++] = i;
+            } else {
+                heroAlivePos[i] = -1;
+            }
+        }
+        aliveMonsterCount = 0;
+        for (int i = 0; i < monsters.size(); i++) {
+            if (monsters.get(i).isAlive()) {
+                monsterAlivePos[i] = aliveMonsterCount;
+                aliveMonsterSlots[aliveMonsterCount++] = i;
+            } else {
+                monsterAlivePos[i] = -1;
+            }
+        }
     }
     
+    private void markHeroFainted(int slot) {
+        int pos = heroAlivePos[slot];
+        if (pos < 0) return;
+        int last = aliveHeroSlots[--aliveHeroCount];
+        aliveHeroSlots[pos] = last;
+        heroAlivePos[last] = pos;
+        heroAlivePos[slot] = -1;
+    }
+    
+    private void markHeroRevived(int slot) {
+        if (heroAlivePos[slot] >= 0) return;
+        heroAlivePos[slot] = aliveHeroCount;
+        aliveHeroSlots[aliveHeroCount++] = slot;
+    }
+    
+    private void markMonsterFainted(Monster monster) {
+        Integer slot = monsterSlots.get(monster);
+        if (slot == null) return;
+        int pos = monsterAlivePos[slot];
+        if (pos < 0) return;
+        int last = aliveMonsterSlots[--aliveMonsterCount];
+        aliveMonsterSlots[pos] = last;
+        monsterAlivePos[last] = pos;
+        monsterAlivePos[slot] = -1;
+    }
+    
+    // copy the alive index and end flags into a snapshot (see BattleSnapshot)
+    void saveState(BattleSnapshot s) {
+        System.arraycopy(aliveHeroSlots, 0, s.aliveHeroSlots, 0, aliveHeroSlots.length);
+        System.arraycopy(heroAlivePos, 0, s.heroAlivePos, 0, heroAlivePos.length);
+        System.arraycopy(aliveMonsterSlots, 0, s.aliveMonsterSlots, 0, aliveMonsterSlots.length);
+        System.arraycopy(monsterAlivePos, 0, s.monsterAlivePos, 0, monsterAlivePos.length);
+        s.aliveHeroCount = aliveHeroCount;
+        s.aliveMonsterCount = aliveMonsterCount;
+        s.battleEnded = battleEnded;
+        s.heroesWon = heroesWon;
+    }
+    
+    // the reverse - keeps the alive order too, so replays after a restore pick the same targets
+    void loadState(BattleSnapshot s) {
+        System.arraycopy(s.aliveHeroSlots, 0, aliveHeroSlots, 0, aliveHeroSlots.length);
+        System.arraycopy(s.heroAlivePos, 0, heroAlivePos, 0, heroAlivePos.length);
+        System.arraycopy(s.aliveMonsterSlots, 0, aliveMonsterSlots, 0, aliveMonsterSlots.length);
+        System.arraycopy(s.monsterAlivePos, 0, monsterAlivePos, 0, monsterAlivePos.length);
+        aliveHeroCount = s.aliveHeroCount;
+        aliveMonsterCount = s.aliveMonsterCount;
+        battleEnded = s.battleEnded;
+        heroesWon = s.heroesWon;
+    }
+    
+    // read-only view of every hero in the battle (no copy, so it's cheap for big raids)
     public List<Hero> getHeroes() {
-        return new ArrayList<>(heroes);
+        return heroesView;
     }
     
     public List<Monster> getMonsters() {
-        return new ArrayList<>(monsters);
+        return monstersView;
     }
     
     public List<Hero> getAliveHeroes() {
@@ -54,6 +162,24 @@ public class Battle {
         return alive;
     }
     
+    public int getAliveHeroCount() {
+        return aliveHeroCount;
+    }
+    
+    public int getAliveMonsterCount() {
+        return aliveMonsterCount;
+    }
+    
+    // i-th alive hero, 0 <= i < getAliveHeroCount() (order is arbitrary but stable
+    // until someone faints or revives)
+    public Hero getAliveHero(int i) {
+        return heroes.get(aliveHeroSlots[i]);
+    }
+    
+    public Monster getAliveMonster(int i) {
+        return monsters.get(aliveMonsterSlots[i]);
+    }
+    
     public boolean isBattleEnded() {
         return battleEnded;
     }
@@ -74,43 +200,48 @@ public class Battle {
     
     // hero attacks a monster (basic attack)
     public BattleResult heroAttack(Hero hero, Monster monster) {
+        return heroAttack(hero, monster, new BattleResult());
+    }
+    
+    // same as above, but records the event into a caller-owned result (no allocation)
+    public BattleResult heroAttack(Hero hero, Monster monster, BattleResult out) {
+        out.begin(BattleAction.ATTACK, hero, monster);
         if (!hero.isAlive() || !monster.isAlive()) {
-            return new BattleResult(false, "Invalid target!");
+            return out.fail(BattleResult.INVALID_TARGET);
         }
         
         // check if monster dodges
         if (random.nextDouble() < monster.getEffectiveDodgeChance()) {
-            return new BattleResult(true, String.format("%s attacked %s, but it dodged!", 
-                                                       hero.getName(), monster.getName()));
+            return out.dodge();
         }
         
         // calculate damage with defense taken into account
         int heroDamage = hero.calculateDamage();
-        int scaledDefense = (int) (monster.getEffectiveDefense() * GameConstants.MONSTER_DEFENSE_SCALE);
-        int actualDamage = Math.max(1, heroDamage - scaledDefense); // always do at least 1 damage
+        int actualDamage = Math.max(1, heroDamage - monster.getScaledDefense()); // always do at least 1 damage
         
         monster.takeDamage(actualDamage);
-        
-        String message = String.format("%s attacked %s for %d damage!", 
-                                      hero.getName(), monster.getName(), actualDamage);
-        
-        if (monster.isFainted()) {
-            message += String.format(" %s has been defeated!", monster.getName());
-        }
+        out.hit(actualDamage, monster.isFainted());
+        if (monster.isFainted()) markMonsterFainted(monster);
         
         checkBattleEnd();
         
-        return new BattleResult(true, message);
+        return out;
     }
     
     // hero casts a spell on a monster
     public BattleResult heroCastSpell(Hero hero, Spell spell, Monster monster) {
+        return heroCastSpell(hero, spell, monster, new BattleResult());
+    }
+    
+    public BattleResult heroCastSpell(Hero hero, Spell spell, Monster monster, BattleResult out) {
+        out.begin(BattleAction.CAST_SPELL, hero, monster);
+        out.spell = spell;
         if (!hero.isAlive() || !monster.isAlive()) {
-            return new BattleResult(false, "Invalid target!");
+            return out.fail(BattleResult.INVALID_TARGET);
         }
         
         if (!hero.hasMana(spell.getManaCost())) {
-            return new BattleResult(false, "Not enough mana!");
+            return out.fail(BattleResult.NOT_ENOUGH_MANA);
         }
         
         // use up the mana
@@ -119,14 +250,12 @@ public class Battle {
         // check if monster dodges the spell
         if (random.nextDouble() < monster.getEffectiveDodgeChance()) {
             spell.useOnce();
-            return new BattleResult(true, String.format("%s cast %s on %s, but it dodged!", 
-                                                       hero.getName(), spell.getName(), monster.getName()));
+            return out.dodge();
         }
         
         // calculate spell damage
         int spellDamage = hero.calculateSpellDamage(spell);
-        int scaledDefense = (int) (monster.getEffectiveDefense() * GameConstants.MONSTER_DEFENSE_SCALE);
-        int actualDamage = Math.max(1, spellDamage - scaledDefense); // at least 1 damage
+        int actualDamage = Math.max(1, spellDamage - monster.getScaledDefense()); // at least 1 damage
         
         monster.takeDamage(actualDamage);
         
@@ -134,18 +263,12 @@ public class Battle {
         applySpellEffect(spell.getSpellType(), monster);
         
         spell.useOnce();
-        
-        String message = String.format("%s cast %s on %s for %d damage! ", 
-                                      hero.getName(), spell.getName(), monster.getName(), actualDamage);
-        message += getSpellEffectMessage(spell.getSpellType());
-        
-        if (monster.isFainted()) {
-            message += String.format(" %s has been defeated!", monster.getName());
-        }
+        out.hit(actualDamage, monster.isFainted());
+        if (monster.isFainted()) markMonsterFainted(monster);
         
         checkBattleEnd();
         
-        return new BattleResult(true, message);
+        return out;
     }
     
     private void applySpellEffect(SpellType type, Monster monster) {
@@ -162,7 +285,7 @@ public class Battle {
         }
     }
     
-    private String getSpellEffectMessage(SpellType type) {
+    private static String getSpellEffectMessage(SpellType type) {
         switch (type) {
             case ICE:
                 return "The target's damage is reduced!";
@@ -177,77 +300,76 @@ public class Battle {
     
     // hero uses a potion
     public BattleResult heroUsePotion(Hero hero, Potion potion) {
+        return heroUsePotion(hero, potion, new BattleResult());
+    }
+    
+    public BattleResult heroUsePotion(Hero hero, Potion potion, BattleResult out) {
+        out.begin(BattleAction.USE_POTION, hero, hero);
+        out.potion = potion;
         if (!hero.isAlive()) {
-            return new BattleResult(false, "Hero is fainted!");
+            return out.fail(BattleResult.HERO_FAINTED);
         }
         
-        StringBuilder message = new StringBuilder();
-        message.append(String.format("%s used %s! ", hero.getName(), potion.getName()));
-        
         int boost = potion.getAttributeIncrease();
         
         if (potion.affectsHealth()) {
             hero.heal(boost);
-            message.append(String.format("HP +%d ", boost));
         }
         if (potion.affectsMana()) {
             hero.restoreMana(boost);
-            message.append(String.format("MP +%d ", boost));
         }
         if (potion.affectsStrength()) {
             hero.setStrength(hero.getStrength() + boost);
-            message.append(String.format("STR +%d ", boost));
         }
         if (potion.affectsDexterity()) {
             hero.setDexterity(hero.getDexterity() + boost);
-            message.append(String.format("DEX +%d ", boost));
         }
         if (potion.affectsAgility()) {
             hero.setAgility(hero.getAgility() + boost);
-            message.append(String.format("AGI +%d ", boost));
         }
         
         potion.useOnce();
         
-        return new BattleResult(true, message.toString());
+        return out;
     }
     
     // monster attacks a random hero
     public BattleResult monsterAttack(Monster monster) {
+        return monsterAttack(monster, new BattleResult());
+    }
+    
+    public BattleResult monsterAttack(Monster monster, BattleResult out) {
+        out.begin(BattleAction.ATTACK, monster, null);
         if (!monster.isAlive()) {
-            return new BattleResult(false, "Monster is defeated!");
+            return out.fail(BattleResult.MONSTER_DEFEATED);
         }
         
-        List<Hero> aliveHeroes = getAliveHeroes();
-        if (aliveHeroes.isEmpty()) {
-            return new BattleResult(false, "No heroes to attack!");
+        if (aliveHeroCount == 0) {
+            return out.fail(BattleResult.NO_HEROES);
         }
         
         // pick a random hero to target
-        Hero target = aliveHeroes.get(random.nextInt(aliveHeroes.size()));
+        int pick = random.nextInt(aliveHeroCount);
+        int slot = aliveHeroSlots[pick];
+        Hero target = heroes.get(slot);
+        out.target = target;
         
         // check if hero dodges the attack
         if (random.nextDouble() < target.getDodgeChance()) {
-            return new BattleResult(true, String.format("%s attacked %s, but they dodged!", 
-                                                       monster.getName(), target.getName()));
+            return out.dodge();
         }
         
         // calculate monster damage
-        int monsterDamage = (int) (monster.getEffectiveDamage() * GameConstants.MONSTER_ATTACK_SCALE);
+        int monsterDamage = monster.getScaledDamage();
         int actualDamage = Math.max(0, monsterDamage - target.getDefense());
         
         target.takeDamage(actualDamage);
-        
-        String message = String.format("%s attacked %s for %d damage!", 
-                                      monster.getName(), target.getName(), actualDamage);
-        
-        if (target.isFainted()) {
-            message += String.format(" %s has fainted!", target.getName());
-        }
+        out.hit(actualDamage, target.isFainted());
+        if (target.isFainted()) markHeroFainted(slot);
         
         checkBattleEnd();
         
-        return new BattleResult(true, message);
+        return out;
     }
     
     // all living monsters attack (monster turn)
@@ -259,19 +381,27 @@ public class Battle {
         return results;
     }
     
+    // monster turn for headless runs: every attack is recorded into the same scratch result
+    public void monstersAttackPhase(BattleResult scratch) {
+        // monsters can't faint during their own turn, so the alive array is stable here
+        for (int i = 0; i < aliveMonsterCount && !battleEnded; i++) {
+            monsterAttack(monsters.get(aliveMonsterSlots[i]), scratch);
+        }
+    }
+    
     // regen HP and MP for all heroes at end of round
     public void regenerateHeroes() {
-        for (Hero hero : getAliveHeroes()) {
-            hero.regenerate();
+        for (int i = 0; i < aliveHeroCount; i++) {
+            heroes.get(aliveHeroSlots[i]).regenerate();
         }
     }
     
     // check if battle is over (all heroes or all monsters dead)
     private void checkBattleEnd() {
-        if (getAliveMonsters().isEmpty()) {
+        if (aliveMonsterCount == 0) {
             battleEnded = true;
             heroesWon = true;
-        } else if (getAliveHeroes().isEmpty()) {
+        } else if (aliveHeroCount == 0) {
             battleEnded = true;
             heroesWon = false;
         }
@@ -299,31 +429,172 @@ public class Battle {
     
     // revive fainted heroes after battle (50% HP/MP)
     public void reviveFaintedHeroes() {
-        for (Hero hero : heroes) {
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
             if (hero.isFainted()) {
                 hero.revive();
+                markHeroRevived(i);
             }
         }
     }
     
-    // helper class to return results from battle actions
+    // Result of one battle action, stored as a typed event (actor, target, action,
+    // damage, dodged, fainted, spell/potion used). The text shown to the player is
+    // only built when getMessage() is called, so headless runs never pay for it.
+    // Instances can be reused: every Battle action overload taking a BattleResult
+    // overwrites it in place.
     public static class BattleResult {
-        private final boolean success;
-        private final String message;
+        // failure reasons (constants, so failing never allocates either)
+        static final String INVALID_TARGET = "Invalid target!";
+        static final String NOT_ENOUGH_MANA = "Not enough mana!";
+        static final String HERO_FAINTED = "Hero is fainted!";
+        static final String MONSTER_DEFEATED = "Monster is defeated!";
+        static final String NO_HEROES = "No heroes to attack!";
+        
+        private boolean success;
+        private BattleAction action;
+        private Character actor;
+        private Character target;
+        private int damage;
+        private boolean dodged;
+        private boolean fainted;
+        private Spell spell;
+        private Potion potion;
+        private String message; // failure reason, or cached rendering
+        
+        // empty result, meant to be filled by Battle (reusable scratch object)
+        public BattleResult() {
+        }
         
         public BattleResult(boolean success, String message) {
             this.success = success;
             this.message = message;
         }
         
+        // clear everything from the previous event
+        BattleResult begin(BattleAction action, Character actor, Character target) {
+            this.success = true;
+            this.action = action;
+            this.actor = actor;
+            this.target = target;
+            this.damage = 0;
+            this.dodged = false;
+            this.fainted = false;
+            this.spell = null;
+            this.potion = null;
+            this.message = null;
+            return this;
+        }
+        
+        BattleResult fail(String reason) {
+            this.success = false;
+            this.message = reason;
+            return this;
+        }
+        
+        BattleResult dodge() {
+            this.dodged = true;
+            return this;
+        }
+        
+        BattleResult hit(int damage, boolean fainted) {
+            this.damage = damage;
+            this.fainted = fainted;
+            return this;
+        }
+        
         public boolean isSuccess() {
             return success;
         }
         
+        public BattleAction getAction() {
+            return action;
+        }
+        
+        public Character getActor() {
+            return actor;
+        }
+        
+        public Character getTarget() {
+            return target;
+        }
+        
+        public int getDamage() {
+            return damage;
+        }
+        
+        public boolean wasDodged() {
+            return dodged;
+        }
+        
+        // true if the target fainted / was defeated by this action
+        public boolean didTargetFaint() {
+            return fainted;
+        }
+        
+        public Spell getSpell() {
+            return spell;
+        }
+        
+        // spell effect applied by this action (null unless a spell landed)
+        public SpellType getSpellEffect() {
+            if (spell == null || !success || dodged) return null;
+            return spell.getSpellType();
+        }
+        
+        public Potion getPotion() {
+            return potion;
+        }
+        
+        // human-readable description, built on first request
         public String getMessage() {
+            if (message == null) {
+                message = render();
+            }
             return message;
         }
+        
+        private String render() {
+            if (action == null) return "";
+            switch (action) {
+                case CAST_SPELL:
+                    if (dodged) {
+                        return String.format("%s cast %s on %s, but it dodged!",
+                                actor.getName(), spell.getName(), target.getName());
+                    }
+                    return String.format("%s cast %s on %s for %d damage! ",
+                            actor.getName(), spell.getName(), target.getName(), damage)
+                            + getSpellEffectMessage(spell.getSpellType())
+                            + (fainted ? String.format(" %s has been defeated!", target.getName()) : "");
+                case USE_POTION:
+                    return renderPotion();
+                case ATTACK:
+                default:
+                    boolean monsterAttacking = actor instanceof Monster;
+                    if (dodged) {
+                        return String.format("%s attacked %s, but %s dodged!",
+                                actor.getName(), target.getName(), monsterAttacking ? "they" : "it");
+                    }
+                    String text = String.format("%s attacked %s for %d damage!",
+                            actor.getName(), target.getName(), damage);
+                    if (fainted) {
+                        text += String.format(monsterAttacking ? " %s has fainted!" : " %s has been defeated!",
+                                target.getName());
+                    }
+                    return text;
+            }
+        }
+        
+        private String renderPotion() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%s used %s! ", actor.getName(), potion.getName()));
+            int boost = potion.getAttributeIncrease();
+            if (potion.affectsHealth()) sb.append(String.format("HP +%d ", boost));
+            if (potion.affectsMana()) sb.append(String.format("MP +%d ", boost));
+            if (potion.affectsStrength()) sb.append(String.format("STR +%d ", boost));
+            if (potion.affectsDexterity()) sb.append(String.format("DEX +%d ", boost));
+            if (potion.affectsAgility()) sb.append(String.format("AGI +%d ", boost));
+            return sb.toString();
+        }
     }
 }
-
-
@@ -0,0 +1,118 @@
+package battle;
+
+import characters.Hero;
+import characters.Monster;
+import items.Armor;
+import items.Item;
+import items.Potion;
+import items.Spell;
+import items.Weapon;
+import utils.Rng;
+import java.util.List;
+
+// Headless battle runner - plays a Battle to the end with no console I/O
+// Follows the same round structure as BattleController.runBattle:
+// every alive hero acts, then all monsters attack, then heroes regenerate.
+// Hero decisions come from a pluggable HeroActionPolicy.
+public class BattleEngine {
+    public static final int DEFAULT_MAX_ROUNDS = 1000;
+
+    // equipping doesn't end the turn (same as the UI), so cap how many times
+    // a policy can equip before it is forced to forfeit the turn
+    private static final int MAX_FREE_ACTIONS = 3;
+
+    private final HeroActionPolicy policy;
+    private final int maxRounds;
+
+    // told about every action a turn carries out, e.g. so the console game can print it
+    public interface TurnListener {
+        // result is only filled in for turn-ending actions (not EQUIP)
+        void actionPerformed(Hero hero, HeroAction action, Battle.BattleResult result);
+    }
+
+    public BattleEngine(HeroActionPolicy policy) {
+        this(policy, DEFAULT_MAX_ROUNDS);
+    }
+
+    public BattleEngine(HeroActionPolicy policy, int maxRounds) {
+        this.policy = policy;
+        this.maxRounds = maxRounds;
+    }
+
+    public BattleOutcome run(List<Hero> party, List<Monster> monsters) {
+        return run(new Battle(party, monsters));
+    }
+
+    public BattleOutcome run(List<Hero> party, List<Monster> monsters, Rng random) {
+        return run(new Battle(party, monsters, random));
+    }
+
+    // play the battle until one side is wiped out or the round cap is reached
+    // (no rewards or revives are applied - callers decide what to do with the result)
+    public BattleOutcome run(Battle battle) {
+        // one scratch result for the whole battle - events are never rendered to text here
+        Battle.BattleResult scratch = new Battle.BattleResult();
+        int rounds = 0;
+        while (!battle.isBattleEnded() && rounds < maxRounds) {
+            rounds++;
+
+            // heroes can't faint during their own phase, so the alive set is stable here
+            for (int i = 0; i < battle.getAliveHeroCount(); i++) {
+                if (battle.isBattleEnded()) break;
+                takeTurn(battle, battle.getAliveHero(i), scratch);
+            }
+
+            if (battle.isBattleEnded()) break;
+
+            battle.monstersAttackPhase(scratch);
+            battle.regenerateHeroes();
+        }
+
+        return new BattleOutcome(battle.didHeroesWin(), !battle.isBattleEnded(), rounds,
+                battle.getAliveHeroCount(), battle.getAliveMonsterCount());
+    }
+
+    // ask the policy for actions until one of them uses up the hero's turn
+    public void takeTurn(Battle battle, Hero hero, Battle.BattleResult scratch) {
+        takeTurn(battle, hero, scratch, null);
+    }
+
+    // same, reporting each action to the listener (if any) as it happens
+    public void takeTurn(Battle battle, Hero hero, Battle.BattleResult scratch, TurnListener listener) {
+        for (int i = 0; i <= MAX_FREE_ACTIONS && !battle.isBattleEnded(); i++) {
+            HeroAction action = policy.chooseAction(battle, hero);
+            if (action == null) return;
+            boolean turnUsed = perform(battle, hero, action, scratch);
+            if (listener != null) listener.actionPerformed(hero, action, scratch);
+            if (turnUsed) return;
+        }
+    }
+
+    // carry out one action; returns true if it used up the hero's turn (everything but EQUIP)
+    public boolean perform(Battle battle, Hero hero, HeroAction action, Battle.BattleResult out) {
+        switch (action.getType()) {
+            case ATTACK:
+                battle.heroAttack(hero, action.getTarget(), out);
+                return true;
+            case CAST_SPELL:
+                battle.heroCastSpell(hero, (Spell) action.getItem(), action.getTarget(), out);
+                return true;
+            case USE_POTION:
+                battle.heroUsePotion(hero, (Potion) action.getItem(), out);
+                return true;
+            case EQUIP:
+                equip(hero, action.getItem());
+                return false; // free action, hero still gets to act
+            default:
+                return true;
+        }
+    }
+
+    private void equip(Hero hero, Item item) {
+        if (item instanceof Weapon) {
+            hero.equipWeapon((Weapon) item);
+        } else if (item instanceof Armor) {
+            hero.equipArmor((Armor) item);
+        }
+    }
+}
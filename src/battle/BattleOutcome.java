@@ -0,0 +1,47 @@
+package battle;
+
+// Compact summary of a finished (or abandoned) headless battle
+// Only primitives so millions of these are cheap to keep around
+public class BattleOutcome {
+    private final boolean heroesWon;
+    private final boolean timedOut;
+    private final int rounds;
+    private final int heroesAlive;
+    private final int monstersAlive;
+
+    public BattleOutcome(boolean heroesWon, boolean timedOut, int rounds, int heroesAlive, int monstersAlive) {
+        this.heroesWon = heroesWon;
+        this.timedOut = timedOut;
+        this.rounds = rounds;
+        this.heroesAlive = heroesAlive;
+        this.monstersAlive = monstersAlive;
+    }
+
+    public boolean didHeroesWin() {
+        return heroesWon;
+    }
+
+    // true if the round cap was hit before either side was wiped out
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getHeroesAlive() {
+        return heroesAlive;
+    }
+
+    public int getMonstersAlive() {
+        return monstersAlive;
+    }
+
+    @Override
+    public String toString() {
+        String result = timedOut ? "TIMEOUT" : (heroesWon ? "HEROES WON" : "MONSTERS WON");
+        return String.format("%s after %d rounds (heroes alive: %d, monsters alive: %d)",
+                result, rounds, heroesAlive, monstersAlive);
+    }
+}
@@ -0,0 +1,147 @@
+package battle;
+
+import characters.Hero;
+import characters.Monster;
+import items.Armor;
+import items.Item;
+import items.Weapon;
+import java.util.ArrayList;
+import java.util.List;
+
+// Compact copy of everything a Battle changes while it's being played
+// Captures only the mutable combat fields: hero HP/MP/STR/DEX/AGI and equipment,
+// monster HP and debuffs, use counters of the heroes' items, the alive index and
+// the end flags. Names, max stats, inventories etc. are never copied.
+// All arrays are allocated once in the constructor, so capture() and restore()
+// are plain array copies (O(units + items)) with no allocation - planners keep
+// one snapshot per search depth and reuse them.
+// The battle's random stream is not part of the snapshot.
+public class BattleSnapshot {
+    private final Battle battle;
+    private final Hero[] heroes;
+    private final Monster[] monsters;
+    private final Item[] items; // every item the heroes carry, in a fixed order
+
+    private final int[] heroHp;
+    private final int[] heroMp;
+    private final int[] heroStrength;
+    private final int[] heroDexterity;
+    private final int[] heroAgility;
+    private final Weapon[] heroWeapon;
+    private final Armor[] heroArmor;
+
+    private final int[] monsterHp;
+    private final double[] monsterDamageReduction;
+    private final double[] monsterDefenseReduction;
+    private final double[] monsterDodgeReduction;
+
+    private final int[] itemUses;
+
+    // alive index and flags, filled in by Battle.saveState
+    final int[] aliveHeroSlots;
+    final int[] heroAlivePos;
+    final int[] aliveMonsterSlots;
+    final int[] monsterAlivePos;
+    int aliveHeroCount;
+    int aliveMonsterCount;
+    boolean battleEnded;
+    boolean heroesWon;
+
+    // sets up storage for this battle and captures its current state
+    public BattleSnapshot(Battle battle) {
+        this.battle = battle;
+        this.heroes = battle.getHeroes().toArray(new Hero[0]);
+        this.monsters = battle.getMonsters().toArray(new Monster[0]);
+
+        List<Item> carried = new ArrayList<>();
+        for (Hero hero : heroes) {
+            carried.addAll(hero.getInventory().getAllItems());
+        }
+        this.items = carried.toArray(new Item[0]);
+
+        int h = heroes.length;
+        int m = monsters.length;
+        this.heroHp = new int[h];
+        this.heroMp = new int[h];
+        this.heroStrength = new int[h];
+        this.heroDexterity = new int[h];
+        this.heroAgility = new int[h];
+        this.heroWeapon = new Weapon[h];
+        this.heroArmor = new Armor[h];
+        this.monsterHp = new int[m];
+        this.monsterDamageReduction = new double[m];
+        this.monsterDefenseReduction = new double[m];
+        this.monsterDodgeReduction = new double[m];
+        this.itemUses = new int[items.length];
+        this.aliveHeroSlots = new int[h];
+        this.heroAlivePos = new int[h];
+        this.aliveMonsterSlots = new int[m];
+        this.monsterAlivePos = new int[m];
+
+        capture();
+    }
+
+    public Battle getBattle() {
+        return battle;
+    }
+
+    // overwrite this snapshot with the battle's current state
+    public void capture() {
+        for (int i = 0; i < heroes.length; i++) {
+            Hero hero = heroes[i];
+            heroHp[i] = hero.getHp();
+            heroMp[i] = hero.getMp();
+            heroStrength[i] = hero.getStrength();
+            heroDexterity[i] = hero.getDexterity();
+            heroAgility[i] = hero.getAgility();
+            heroWeapon[i] = hero.getEquippedWeapon();
+            heroArmor[i] = hero.getEquippedArmor();
+        }
+        for (int i = 0; i < monsters.length; i++) {
+            Monster monster = monsters[i];
+            monsterHp[i] = monster.getHp();
+            monsterDamageReduction[i] = monster.getDamageReduction();
+            monsterDefenseReduction[i] = monster.getDefenseReduction();
+            monsterDodgeReduction[i] = monster.getDodgeReduction();
+        }
+        for (int i = 0; i < items.length; i++) {
+            itemUses[i] = items[i].getRemainingUses();
+        }
+        battle.saveState(this);
+    }
+
+    // put the battle back exactly as it was at the last capture()
+    public void restore() {
+        for (int i = 0; i < heroes.length; i++) {
+            Hero hero = heroes[i];
+            hero.setHp(heroHp[i]);
+            hero.setMp(heroMp[i]);
+            // stat setters bump the hero's stat version (dropping its damage memo), so skip unchanged ones
+            if (hero.getStrength() != heroStrength[i]) hero.setStrength(heroStrength[i]);
+            if (hero.getDexterity() != heroDexterity[i]) hero.setDexterity(heroDexterity[i]);
+            if (hero.getAgility() != heroAgility[i]) hero.setAgility(heroAgility[i]);
+            if (hero.getEquippedWeapon() != heroWeapon[i]) {
+                if (heroWeapon[i] == null) hero.unequipWeapon();
+                else hero.equipWeapon(heroWeapon[i]);
+            }
+            if (hero.getEquippedArmor() != heroArmor[i]) {
+                if (heroArmor[i] == null) hero.unequipArmor();
+                else hero.equipArmor(heroArmor[i]);
+            }
+        }
+        for (int i = 0; i < monsters.length; i++) {
+            Monster monster = monsters[i];
+            monster.setHp(monsterHp[i]);
+            if (monster.getDamageReduction() != monsterDamageReduction[i]
+                    || monster.getDefenseReduction() != monsterDefenseReduction[i]
+                    || monster.getDodgeReduction() != monsterDodgeReduction[i]) {
+                monster.restoreDebuffs(monsterDamageReduction[i], monsterDefenseReduction[i],
+                        monsterDodgeReduction[i]);
+            }
+        }
+        for (int i = 0; i < items.length; i++) {
+            items[i].setRemainingUses(itemUses[i]);
+        }
+        battle.loadState(this);
+    }
+}
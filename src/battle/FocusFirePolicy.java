@@ -0,0 +1,14 @@
+package battle;
+
+import characters.Hero;
+
+// Every hero attacks the same monster until it goes down, then moves to the next one
+// Target lookup is a single index read, so it stays O(1) even in huge raid battles.
+public class FocusFirePolicy implements HeroActionPolicy {
+
+    @Override
+    public HeroAction chooseAction(Battle battle, Hero hero) {
+        if (battle.getAliveMonsterCount() == 0) return null;
+        return HeroAction.attack(battle.getAliveMonster(0));
+    }
+}
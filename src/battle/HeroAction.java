@@ -0,0 +1,63 @@
+package battle;
+
+import characters.Monster;
+import items.Armor;
+import items.Item;
+import items.Potion;
+import items.Spell;
+import items.Weapon;
+import utils.BattleAction;
+
+// One decision made by a hero on their turn (attack, spell, potion or equip)
+// Built through the static factories so only valid combinations exist
+public class HeroAction {
+    private final BattleAction type;
+    private final Monster target; // attack/spell target, null otherwise
+    private final Item item;      // spell, potion, weapon or armor, null for attacks
+
+    private HeroAction(BattleAction type, Monster target, Item item) {
+        this.type = type;
+        this.target = target;
+        this.item = item;
+    }
+
+    public static HeroAction attack(Monster target) {
+        return new HeroAction(BattleAction.ATTACK, target, null);
+    }
+
+    public static HeroAction castSpell(Spell spell, Monster target) {
+        return new HeroAction(BattleAction.CAST_SPELL, target, spell);
+    }
+
+    public static HeroAction usePotion(Potion potion) {
+        return new HeroAction(BattleAction.USE_POTION, null, potion);
+    }
+
+    public static HeroAction equip(Weapon weapon) {
+        return new HeroAction(BattleAction.EQUIP, null, weapon);
+    }
+
+    public static HeroAction equip(Armor armor) {
+        return new HeroAction(BattleAction.EQUIP, null, armor);
+    }
+
+    public BattleAction getType() {
+        return type;
+    }
+
+    public Monster getTarget() {
+        return target;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(type.toString());
+        if (item != null) sb.append(' ').append(item.getName());
+        if (target != null) sb.append(" -> ").append(target.getName());
+        return sb.toString();
+    }
+}
@@ -0,0 +1,11 @@
+package battle;
+
+import characters.Hero;
+
+// Decides what a hero does on their turn when no player is at the keyboard
+// Used by BattleEngine to run battles headless
+public interface HeroActionPolicy {
+
+    // Pick an action for the given (alive) hero. Returning null skips the turn.
+    HeroAction chooseAction(Battle battle, Hero hero);
+}
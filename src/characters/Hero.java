@@ -21,6 +21,15 @@ public abstract class Hero extends Character {
     private Weapon equippedWeapon;
     private Armor equippedArmor;
     
+    // bumped whenever something that feeds damage/defense changes (stats, level, equipment)
+    // so memoized combat numbers know when to recompute
+    private int statVersion;
+    
+    // memoized combat numbers, valid while cachedVersion == statVersion
+    private int cachedDamage;
+    private int cachedDefense;
+    private int cachedVersion = -1;
+    
     public Hero(String name, int level, int hp, int mp, int strength, int dexterity, 
                 int agility, int gold, int experience) {
         super(name, level, hp);
@@ -34,6 +43,7 @@ public abstract class Hero extends Character {
         this.inventory = new Inventory();
         this.equippedWeapon = null;
         this.equippedArmor = null;
+        statVersion++;
     }
     
     // Getters
@@ -47,6 +57,7 @@ public abstract class Hero extends Character {
     public Inventory getInventory() { return inventory; }
     public Weapon getEquippedWeapon() { return equippedWeapon; }
     public Armor getEquippedArmor() { return equippedArmor; }
+    public int getStatVersion() { return statVersion; }
     
     // Setters
     public void setMp(int mp) {
@@ -58,9 +69,9 @@ public abstract class Hero extends Character {
         this.mp = Math.min(this.mp, maxMp);
     }
     
-    public void setStrength(int strength) { this.strength = strength; }
-    public void setDexterity(int dexterity) { this.dexterity = dexterity; }
-    public void setAgility(int agility) { this.agility = agility; }
+    public void setStrength(int strength) { this.strength = strength; statVersion++; }
+    public void setDexterity(int dexterity) { this.dexterity = dexterity; statVersion++; }
+    public void setAgility(int agility) { this.agility = agility; statVersion++; }
     
     // methods for adding/removing gold
     public boolean addGold(int amount) {
@@ -106,6 +117,7 @@ public abstract class Hero extends Character {
         
         // Apply favored stat bonuses
         applyFavoredStatBonus();
+        statVersion++;
         
         // Update max HP/MP and restore to full
         setMaxHp(newMaxHp);
@@ -138,6 +150,7 @@ public abstract class Hero extends Character {
         if (!inventory.contains(weapon)) return false;
         
         this.equippedWeapon = weapon;
+        statVersion++;
         return true;
     }
     
@@ -147,24 +160,35 @@ public abstract class Hero extends Character {
         if (!inventory.contains(armor)) return false;
         
         this.equippedArmor = armor;
+        statVersion++;
         return true;
     }
     
     public void unequipWeapon() {
         this.equippedWeapon = null;
+        statVersion++;
     }
     
     public void unequipArmor() {
         this.equippedArmor = null;
+        statVersion++;
     }
     
     // calculate damage, defense, and dodge chance for combat
+    // (damage and defense are memoized until a stat, the level or the equipment changes)
     public int calculateDamage() {
+        if (cachedVersion != statVersion) refreshCombatCache();
+        return cachedDamage;
+    }
+    
+    private void refreshCombatCache() {
         int baseDamage = (int) (strength * GameConstants.HERO_ATTACK_SCALE);
         if (equippedWeapon != null) {
             baseDamage += equippedWeapon.getDamage();
         }
-        return baseDamage;
+        cachedDamage = baseDamage;
+        cachedDefense = equippedArmor != null ? equippedArmor.getDamageReduction() : 0;
+        cachedVersion = statVersion;
     }
     
     // calculate damage for spell attacks (based on DEX and spell power)
@@ -174,10 +198,8 @@ public abstract class Hero extends Character {
     }
     
     public int getDefense() {
-        if (equippedArmor != null) {
-            return equippedArmor.getDamageReduction();
-        }
-        return 0;
+        if (cachedVersion != statVersion) refreshCombatCache();
+        return cachedDefense;
     }
     
     // calculate chance to dodge attacks (based on agility)
@@ -1,5 +1,6 @@
 package characters;
 
+import utils.GameConstants;
 import utils.MonsterType;
 
 // Base class for monsters (Dragon, Exoskeleton, Spirit)
@@ -14,6 +15,14 @@ public abstract class Monster extends Character {
     private double defenseReduction = 0.0; // From Fire spells
     private double dodgeReduction = 0.0; // From Lightning spells
     
+    // bumped whenever damage/defense/dodge or a debuff changes, so memoized numbers get recomputed
+    private int statVersion;
+    
+    // memoized battle numbers, valid while cachedVersion == statVersion
+    private int cachedScaledDamage;
+    private int cachedScaledDefense;
+    private int cachedVersion = -1;
+    
     public Monster(String name, int level, int hp, int baseDamage, int defense, double dodgeChance) {
         super(name, level, hp);
         this.baseDamage = baseDamage;
@@ -27,6 +36,7 @@ public abstract class Monster extends Character {
     
     public void setBaseDamage(int baseDamage) {
         this.baseDamage = baseDamage;
+        statVersion++;
     }
     
     public int getDefense() {
@@ -35,6 +45,7 @@ public abstract class Monster extends Character {
     
     public void setDefense(int defense) {
         this.defense = defense;
+        statVersion++;
     }
     
     public double getDodgeChance() {
@@ -43,6 +54,7 @@ public abstract class Monster extends Character {
     
     public void setDodgeChance(double dodgeChance) {
         this.dodgeChance = dodgeChance;
+        statVersion++;
     }
     
     // get stats with debuffs applied
@@ -54,21 +66,67 @@ public abstract class Monster extends Character {
         return (int) (defense * (1 - defenseReduction));
     }
     
+    // damage/defense as used by the battle formulas (debuffed and scaled), memoized
+    // until a stat or debuff changes
+    public int getScaledDamage() {
+        if (cachedVersion != statVersion) refreshCombatCache();
+        return cachedScaledDamage;
+    }
+    
+    public int getScaledDefense() {
+        if (cachedVersion != statVersion) refreshCombatCache();
+        return cachedScaledDefense;
+    }
+    
+    private void refreshCombatCache() {
+        cachedScaledDamage = (int) (getEffectiveDamage() * GameConstants.MONSTER_ATTACK_SCALE);
+        cachedScaledDefense = (int) (getEffectiveDefense() * GameConstants.MONSTER_DEFENSE_SCALE);
+        cachedVersion = statVersion;
+    }
+    
     public double getEffectiveDodgeChance() {
         return Math.max(0, dodgeChance - dodgeReduction);
     }
     
+    public int getStatVersion() {
+        return statVersion;
+    }
+    
+    // current debuff amounts (0 = none)
+    public double getDamageReduction() {
+        return damageReduction;
+    }
+    
+    public double getDefenseReduction() {
+        return defenseReduction;
+    }
+    
+    public double getDodgeReduction() {
+        return dodgeReduction;
+    }
+    
+    // put debuffs back to previously saved values (battle snapshots / search rollback)
+    public void restoreDebuffs(double damageReduction, double defenseReduction, double dodgeReduction) {
+        this.damageReduction = damageReduction;
+        this.defenseReduction = defenseReduction;
+        this.dodgeReduction = dodgeReduction;
+        statVersion++;
+    }
+    
     // apply spell debuffs to monster
     public void applyIceDebuff(double reduction) {
         this.damageReduction = Math.min(1.0, damageReduction + reduction);
+        statVersion++;
     }
     
     public void applyFireDebuff(double reduction) {
         this.defenseReduction = Math.min(1.0, defenseReduction + reduction);
+        statVersion++;
     }
     
     public void applyLightningDebuff(double reduction) {
         this.dodgeReduction = Math.min(dodgeChance, dodgeReduction + reduction);
+        statVersion++;
     }
     
     public abstract MonsterType getMonsterType();
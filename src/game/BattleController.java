@@ -1,6 +1,8 @@
 package game;
 
 import battle.Battle;
+import battle.BattleEngine;
+import battle.HeroAction;
 import characters.Hero;
 import characters.Monster;
 import items.Potion;
@@ -20,7 +22,7 @@ public class BattleController {
     public void startBattle() {
         MonsterSpawner spawner = new MonsterSpawner(ctx);
         List<Monster> monsters = spawner.spawnMonsters();
-        Battle battle = new Battle(ctx.party, monsters);
+        Battle battle = new Battle(ctx.party, monsters, ctx.rng.split());
 
         ctx.view.println();
         ctx.view.println("╔════════════════════════════════════════════════════════════╗");
@@ -29,7 +31,7 @@ public class BattleController {
         ctx.view.println();
         ctx.view.println("Your party encounters:");
         for (Monster monster : monsters) {
-            ctx.view.println("  • " + monster);
+            ctx.view.println(() -> "  • " + monster);
         }
         ctx.view.println();
         ctx.view.waitForEnter();
@@ -45,7 +47,7 @@ public class BattleController {
         ctx.view.println();
         ctx.view.println("Your party encounters:");
         for (Monster monster : battle.getMonsters()) {
-            ctx.view.println("  • " + monster);
+            ctx.view.println(() -> "  • " + monster);
         }
         ctx.view.println();
         ctx.view.waitForEnter();
@@ -58,7 +60,7 @@ public class BattleController {
                 return false;
             }
             ctx.view.println();
-            ctx.view.println("════════════════ ROUND " + roundNumber + " ════════════════");
+            ctx.view.printlnf("════════════════ ROUND %d ════════════════", roundNumber);
             ctx.view.println();
 
             for (Hero hero : battle.getAliveHeroes()) {
@@ -73,7 +75,7 @@ public class BattleController {
             ctx.view.println("\n--- MONSTERS' TURN ---");
             List<Battle.BattleResult> monsterResults = battle.monstersAttackPhase();
             for (Battle.BattleResult result : monsterResults) {
-                ctx.view.println("• " + result.getMessage());
+                ctx.view.println(() -> "• " + result.getMessage());
                 if (!ctx.gameRunning) break;
             }
             ctx.view.waitForEnter();
@@ -97,11 +99,11 @@ public class BattleController {
         ctx.view.println("\n=== HEROES ===");
         for (Hero hero : battle.getHeroes()) {
             if (hero.isAlive()) {
-                ctx.view.println(String.format("  ✓ %s - HP: %d/%d, MP: %d/%d",
+                ctx.view.printlnf("  ✓ %s - HP: %d/%d, MP: %d/%d",
                         hero.getName(), hero.getHp(), hero.getMaxHp(),
-                        hero.getMp(), hero.getMaxMp()));
+                        hero.getMp(), hero.getMaxMp());
             } else {
-                ctx.view.println(String.format("  ✗ %s - FAINTED", hero.getName()));
+                ctx.view.printlnf("  ✗ %s - FAINTED", hero.getName());
             }
         }
 
@@ -109,7 +111,7 @@ public class BattleController {
         int monsterNum = 1;
         for (Monster monster : battle.getMonsters()) {
             if (monster.isAlive()) {
-                ctx.view.println(String.format("  %d. %s", monsterNum, monster));
+                ctx.view.printlnf("  %d. %s", monsterNum, monster);
                 monsterNum++;
             }
         }
@@ -118,11 +120,16 @@ public class BattleController {
 
     private void handleHeroTurn(Battle battle, Hero hero) {
         ctx.view.printSeparator();
-        ctx.view.println(String.format(">>> %s's Turn <<<", hero.getName()));
-        ctx.view.println(String.format("HP: %d/%d | MP: %d/%d",
-                hero.getHp(), hero.getMaxHp(), hero.getMp(), hero.getMaxMp()));
+        ctx.view.printlnf(">>> %s's Turn <<<", hero.getName());
+        ctx.view.printlnf("HP: %d/%d | MP: %d/%d",
+                hero.getHp(), hero.getMaxHp(), hero.getMp(), hero.getMaxMp());
         ctx.view.println();
 
+        if (ctx.autoPilot != null) {
+            handleAutoPilotTurn(battle, hero);
+            return;
+        }
+
         boolean turnComplete = false;
 
         while (!turnComplete && !battle.isBattleEnded()) {
@@ -163,13 +170,41 @@ public class BattleController {
         }
     }
 
+    // hero turn played by ctx.autoPilot - BattleEngine carries out the actions
+    // (same rules as simulated battles), this only prints what happened
+    private void handleAutoPilotTurn(Battle battle, Hero hero) {
+        new BattleEngine(ctx.autoPilot).takeTurn(battle, hero, new Battle.BattleResult(),
+                this::printAutoPilotAction);
+    }
+
+    private void printAutoPilotAction(Hero hero, HeroAction action, Battle.BattleResult result) {
+        switch (action.getType()) {
+            case ATTACK:
+                ctx.view.println("\n⚔️  " + result.getMessage());
+                break;
+            case CAST_SPELL:
+                ctx.view.println("\n✨ " + result.getMessage());
+                break;
+            case USE_POTION:
+                ctx.view.println("\n🧪 " + result.getMessage());
+                break;
+            case EQUIP:
+                if (hero.getEquippedWeapon() == action.getItem() || hero.getEquippedArmor() == action.getItem()) {
+                    ctx.view.printlnf("\n✓ Equipped %s!", action.getItem().getName());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
     private boolean handleAttack(Battle battle, Hero hero) {
         List<Monster> aliveMonsters = battle.getAliveMonsters();
         if (aliveMonsters.isEmpty()) return true;
 
         ctx.view.println("\nSelect target:");
         for (int i = 0; i < aliveMonsters.size(); i++) {
-            ctx.view.println(String.format("%d. %s", i + 1, aliveMonsters.get(i)));
+            ctx.view.printlnf("%d. %s", i + 1, aliveMonsters.get(i));
         }
         ctx.view.println("0. Cancel");
 
@@ -178,7 +213,7 @@ public class BattleController {
 
         Monster target = aliveMonsters.get(choice - 1);
         Battle.BattleResult result = battle.heroAttack(hero, target);
-        ctx.view.println("\n⚔️  " + result.getMessage());
+        ctx.view.println(() -> "\n⚔️  " + result.getMessage());
         ctx.view.waitForEnter();
 
         return true;
@@ -193,7 +228,7 @@ public class BattleController {
 
         ctx.view.println("\nSelect spell:");
         for (int i = 0; i < spells.size(); i++) {
-            ctx.view.println(String.format("%d. %s", i + 1, spells.get(i)));
+            ctx.view.printlnf("%d. %s", i + 1, spells.get(i));
         }
         ctx.view.println("0. Cancel");
 
@@ -210,7 +245,7 @@ public class BattleController {
         List<Monster> aliveMonsters = battle.getAliveMonsters();
         ctx.view.println("\nSelect target:");
         for (int i = 0; i < aliveMonsters.size(); i++) {
-            ctx.view.println(String.format("%d. %s", i + 1, aliveMonsters.get(i)));
+            ctx.view.printlnf("%d. %s", i + 1, aliveMonsters.get(i));
         }
         ctx.view.println("0. Cancel");
 
@@ -219,7 +254,7 @@ public class BattleController {
 
         Monster target = aliveMonsters.get(targetChoice - 1);
         Battle.BattleResult result = battle.heroCastSpell(hero, spell, target);
-        ctx.view.println("\n✨ " + result.getMessage());
+        ctx.view.println(() -> "\n✨ " + result.getMessage());
         ctx.view.waitForEnter();
 
         return true;
@@ -234,7 +269,7 @@ public class BattleController {
 
         ctx.view.println("\nSelect potion:");
         for (int i = 0; i < potions.size(); i++) {
-            ctx.view.println(String.format("%d. %s", i + 1, potions.get(i)));
+            ctx.view.printlnf("%d. %s", i + 1, potions.get(i));
         }
         ctx.view.println("0. Cancel");
 
@@ -243,7 +278,7 @@ public class BattleController {
 
         Potion potion = potions.get(choice - 1);
         Battle.BattleResult result = battle.heroUsePotion(hero, potion);
-        ctx.view.println("\n🧪 " + result.getMessage());
+        ctx.view.println(() -> "\n🧪 " + result.getMessage());
         ctx.view.waitForEnter();
 
         return true;
@@ -286,14 +321,14 @@ public class BattleController {
 
         ctx.view.println("\nSelect weapon:");
         for (int i = 0; i < weapons.size(); i++) {
-            ctx.view.println(String.format("%d. %s", i + 1, weapons.get(i)));
+            ctx.view.printlnf("%d. %s", i + 1, weapons.get(i));
         }
 
         int choice = ctx.view.readInt("\nWeapon: ", 1, weapons.size());
         Weapon weapon = weapons.get(choice - 1);
 
         if (hero.equipWeapon(weapon)) {
-            ctx.view.println(String.format("\n✓ Equipped %s!", weapon.getName()));
+            ctx.view.printlnf("\n✓ Equipped %s!", weapon.getName());
         } else {
             ctx.view.println("\nCannot equip that weapon!");
         }
@@ -308,14 +343,14 @@ public class BattleController {
 
         ctx.view.println("\nSelect armor:");
         for (int i = 0; i < armors.size(); i++) {
-            ctx.view.println(String.format("%d. %s", i + 1, armors.get(i)));
+            ctx.view.printlnf("%d. %s", i + 1, armors.get(i));
         }
 
         int choice = ctx.view.readInt("\nArmor: ", 1, armors.size());
         Armor armor = armors.get(choice - 1);
 
         if (hero.equipArmor(armor)) {
-            ctx.view.println(String.format("\n✓ Equipped %s!", armor.getName()));
+            ctx.view.printlnf("\n✓ Equipped %s!", armor.getName());
         } else {
             ctx.view.println("\nCannot equip that armor!");
         }
@@ -334,9 +369,9 @@ public class BattleController {
             ctx.view.println("\nThe monsters have been defeated!");
             ctx.view.println("\nRewards distributed to surviving heroes:");
             for (Hero hero : battle.getAliveHeroes()) {
-                ctx.view.println(String.format("  %s - Level %d (XP: %d, Gold: %d)",
+                ctx.view.printlnf("  %s - Level %d (XP: %d, Gold: %d)",
                         hero.getName(), hero.getLevel(),
-                        hero.getExperience(), hero.getGold()));
+                        hero.getExperience(), hero.getGold());
             }
 
             // Schedule fainted heroes to respawn at their Nexus after one round
@@ -374,22 +409,22 @@ public class BattleController {
     private void displayDetailedBattleInfo(Battle battle, Hero hero) {
         ctx.view.println("\n=== DETAILED BATTLE INFORMATION ===");
         ctx.view.println("\n--- YOUR HERO ---");
-        ctx.view.println(hero.getDetailedStats());
+        ctx.view.println(hero::getDetailedStats);
 
         ctx.view.println("\n--- ALL HEROES ---");
         for (Hero h : battle.getHeroes()) {
             String status = h.isAlive() ? "ALIVE" : "FAINTED";
-            ctx.view.println(String.format("%s [%s] - HP: %d/%d, MP: %d/%d",
+            ctx.view.printlnf("%s [%s] - HP: %d/%d, MP: %d/%d",
                     h.getName(), status, h.getHp(), h.getMaxHp(),
-                    h.getMp(), h.getMaxMp()));
+                    h.getMp(), h.getMaxMp());
         }
 
         ctx.view.println("\n--- ENEMY MONSTERS ---");
         for (Monster m : battle.getMonsters()) {
             if (m.isAlive()) {
-                ctx.view.println(m.toString());
+                ctx.view.println(m::toString);
             } else {
-                ctx.view.println(String.format("%s [DEFEATED]", m.getName()));
+                ctx.view.printlnf("%s [DEFEATED]", m.getName());
             }
         }
         ctx.view.println();
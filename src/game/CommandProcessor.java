@@ -19,8 +19,8 @@ public class CommandProcessor {
     }
 
     public void processPlayerInput() {
-        ctx.view.print("Enter command (1-3 to select hero, W/A/S/D to move, T=Teleport, R=Recall, E=RemoveObstacle, I/M/Q): ");
-        String input = ctx.view.readLine().trim().toUpperCase();
+        String input = ctx.view.readLine("Enter command (1-3 to select hero, W/A/S/D to move, T=Teleport, R=Recall, E=RemoveObstacle, G=AutoTravel, I/M/Q): ")
+                .trim().toUpperCase();
 
         if (input.isEmpty()) return;
         char command = input.charAt(0);
@@ -55,6 +55,9 @@ public class CommandProcessor {
             case 'E':
                 movementController.removeAdjacentObstacle();
                 break;
+            case 'G':
+                movementController.handleAutoTravel();
+                break;
             
             // Info and market
             case 'I':
@@ -4,7 +4,9 @@ import characters.*;
 import items.*;
 import world.ValorWorldMap;
 import market.Market;
-import io.ConsoleView;
+import io.View;
+import battle.HeroActionPolicy;
+import utils.Rng;
 
 import java.util.List;
 import java.util.Map;
@@ -19,12 +21,28 @@ import characters.Hero;
  */
 public class GameContext {
     // Core game components
-    public ConsoleView view;
+    public View view; // console by default; NullView for unattended matches
     public ValorWorldMap worldMap;
     public List<Hero> party;
     public List<Market> markets;
     public boolean gameRunning;
     
+    // Root random stream for this match; map, spawner and battles all draw from it
+    // (or from splits of it) so a whole game can be replayed from one seed
+    public Rng rng = new Rng();
+    
+    // Battle auto-pilot: when set, hero turns in battle are decided by this policy
+    // instead of the battle menu (null = the player chooses)
+    public HeroActionPolicy autoPilot;
+
+    // Redraw only the board cells that changed each turn (needs an ANSI terminal);
+    // off = print the whole board every turn
+    public boolean diffRendering;
+
+    // Every monster advances after each hero turn instead of one random monster
+    // (a much faster, harder game; the flow field keeps it O(1) per monster)
+    public boolean allMonstersMove;
+    
     // Turn tracking
     public int currentHeroIndex = 0; // Which hero is currently selected
     public int roundCounter = 0; // How many rounds have passed
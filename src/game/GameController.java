@@ -3,12 +3,15 @@ package game;
 import characters.*;
 import items.*;
 import world.WorldMap;
+import world.PathFinder;
 import world.Position;
 import market.Market;
 import battle.Battle;
 import io.ConsoleView;
+import io.View;
 import io.DataLoader;
 import utils.GameConstants;
+import utils.Rng;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,8 +19,10 @@ import java.util.List;
 // Main game controller - runs the whole game
 // Handles setup, game loop, movement, battles, markets, etc.
 public class GameController {
-    private final ConsoleView view;
+    private final View view;
+    private final Rng rng; // one stream per game: map, spawns and battles
     private WorldMap worldMap;
+    private PathFinder pathFinder; // auto-travel routes over worldMap
     private List<Hero> party;
     private List<Market> markets;
     private boolean gameRunning;
@@ -32,7 +37,13 @@ public class GameController {
     private List<Spirit> allSpirits;
     
     public GameController() {
+        this(new Rng());
+    }
+    
+    // seeded variant so a whole game can be reproduced
+    public GameController(Rng rng) {
         this.view = new ConsoleView();
+        this.rng = rng;
         this.gameRunning = false;
         this.markets = new ArrayList<>();
     }
@@ -49,7 +60,9 @@ public class GameController {
         createParty();
         
         // Create world
-        worldMap = new WorldMap(GameConstants.WORLD_SIZE);
+        worldMap = GameConstants.CLASSIC_WORLD_UNBOUNDED
+                ? WorldMap.unbounded(rng.split())
+                : new WorldMap(GameConstants.WORLD_SIZE, rng.split());
         
         // Create markets
         createMarkets();
@@ -189,8 +202,7 @@ public class GameController {
     
     // get player input and do the appropriate action
     private void processPlayerInput() {
-        view.print("Enter command (W/A/S/D/I/M/Q): ");
-        String input = view.readLine().trim().toUpperCase();
+        String input = view.readLine("Enter command (W/A/S/D/G/I/M/Q): ").trim().toUpperCase();
         
         if (input.isEmpty()) {
             return;
@@ -211,6 +223,9 @@ public class GameController {
             case 'D':
                 handleMovement(worldMap.getPartyPosition().moveRight());
                 break;
+            case 'G':
+                handleAutoTravel();
+                break;
             case 'I':
                 displayInfo();
                 break;
@@ -226,10 +241,11 @@ public class GameController {
     }
     
     // move party to new position and check for battles
-    private void handleMovement(Position newPosition) {
+    // returns true if the party moved and no battle started
+    private boolean handleMovement(Position newPosition) {
         if (!worldMap.moveParty(newPosition)) {
             view.println("Cannot move there!");
-            return;
+            return false;
         }
         
         view.println("Party moved to " + newPosition);
@@ -238,7 +254,34 @@ public class GameController {
         if (worldMap.shouldTriggerBattle()) {
             view.println("\n*** A wild monster appears! ***");
             startBattle();
+            return false;
+        }
+        return true;
+    }
+
+    // walk to the nearest market on screen (WORLD_VIEW_SIZE around the party) along an
+    // A* path, stopping early if a battle starts
+    private void handleAutoTravel() {
+        Position here = worldMap.getPartyPosition();
+        int radius = GameConstants.WORLD_VIEW_SIZE / 2;
+        List<Position> markets = new ArrayList<>();
+        for (int r = here.getRow() - radius; r <= here.getRow() + radius; r++) {
+            for (int c = here.getCol() - radius; c <= here.getCol() + radius; c++) {
+                Position p = Position.of(r, c);
+                if (worldMap.isValidPosition(p) && worldMap.getTileAt(p).isMarket()) markets.add(p);
+            }
+        }
+
+        if (pathFinder == null) pathFinder = new PathFinder(worldMap);
+        List<Position> path = markets.isEmpty() ? null : pathFinder.findPathToNearest(here, markets);
+        if (path == null) {
+            view.println("No reachable market in sight.");
+            return;
+        }
+        for (Position step : path) {
+            if (!handleMovement(step) || !gameRunning) return;
         }
+        view.println("The party has arrived at a market.");
     }
     
     // show detailed info about all heroes in the party
@@ -397,7 +440,7 @@ public class GameController {
         // Spawn monsters based on party
         List<Monster> monsters = spawnMonsters();
         
-        Battle battle = new Battle(party, monsters);
+        Battle battle = new Battle(party, monsters, rng.split());
         
         view.println();
         view.println("╔════════════════════════════════════════════════════════════╗");
@@ -734,7 +777,7 @@ public class GameController {
         
         // Randomly select monster types
         for (int i = 0; i < monsterCount; i++) {
-            int typeChoice = (int) (Math.random() * 3);
+            int typeChoice = rng.nextInt(3);
             Monster monster = null;
             
             switch (typeChoice) {
@@ -31,8 +31,8 @@ public class GameInitializer {
         loadGameData();
         createParty();
 
-        // Create the 3-lane battlefield
-        ctx.worldMap = new ValorWorldMap(GameConstants.WORLD_SIZE);
+        // Create the lane battlefield (3 lanes on the default 8x8 board)
+        ctx.worldMap = new ValorWorldMap(GameConstants.WORLD_SIZE, GameConstants.VALOR_LANE_COUNT, ctx.rng.split());
 
         // Set up the respawn system for when heroes die
         ctx.respawnManager = new RespawnManager(ctx);
@@ -52,10 +52,15 @@ public class GameInitializer {
 
         createMarkets();
 
-        // Place each hero at their nexus spawn (one per lane)
+        // Place each hero at their nexus spawn (one per lane; extra heroes share lanes)
         for (int i = 0; i < ctx.party.size(); i++) {
+            Hero hero = ctx.party.get(i);
             Position spawn = ctx.worldMap.getHeroNexusSpawn(i);
-            ctx.worldMap.placeHero(spawn, ctx.party.get(i));
+            if (!ctx.worldMap.placeHero(spawn, hero)) {
+                // nexus row is full: the hero enters as soon as their spawn frees up
+                ctx.view.printlnf("No free Nexus cell for %s yet; they will enter when one frees up.", hero.getName());
+                ctx.respawnManager.scheduleEntry(hero);
+            }
         }
 
         // If heroes spawned on special terrain, give them bonuses right away
@@ -97,10 +102,10 @@ public class GameInitializer {
         ctx.allExoskeletons = DataLoader.loadExoskeletons(dataPath + "Exoskeletons.txt");
         ctx.allSpirits = DataLoader.loadSpirits(dataPath + "Spirits.txt");
 
-        ctx.view.println(String.format("Data loaded: %d weapons, %d armor, %d potions, %d spells",
-                ctx.allWeapons.size(), ctx.allArmor.size(), ctx.allPotions.size(), ctx.allSpells.size()));
-        ctx.view.println(String.format("             %d dragons, %d exoskeletons, %d spirits",
-                ctx.allDragons.size(), ctx.allExoskeletons.size(), ctx.allSpirits.size()));
+        ctx.view.printlnf("Data loaded: %d weapons, %d armor, %d potions, %d spells",
+                ctx.allWeapons.size(), ctx.allArmor.size(), ctx.allPotions.size(), ctx.allSpells.size());
+        ctx.view.printlnf("             %d dragons, %d exoskeletons, %d spirits",
+                ctx.allDragons.size(), ctx.allExoskeletons.size(), ctx.allSpirits.size());
     }
 
     // Let the player pick exactly 3 heroes for their party
@@ -128,19 +133,19 @@ public class GameInitializer {
 
         // Let player pick 3 heroes one at a time
         for (int i = 0; i < partySize; i++) {
-            ctx.view.println(String.format("\nSelect hero %d:", i + 1));
+            ctx.view.printlnf("\nSelect hero %d:", i + 1);
             for (int j = 0; j < allHeroes.size(); j++) {
                 Hero h = allHeroes.get(j);
-                ctx.view.println(String.format("%d. %s - STR:%d DEX:%d AGI:%d MP:%d Gold:%d",
-                        j + 1, h.toString(), h.getStrength(),
+                ctx.view.printlnf("%d. %s - STR:%d DEX:%d AGI:%d MP:%d Gold:%d",
+                        j + 1, h, h.getStrength(),
                         h.getDexterity(), h.getAgility(),
-                        h.getMp(), h.getGold()));
+                        h.getMp(), h.getGold());
             }
             int choice = ctx.view.readInt("Your choice: ", 1, allHeroes.size());
             Hero selectedHero = allHeroes.get(choice - 1);
             ctx.party.add(selectedHero);
             allHeroes.remove(choice - 1); // Remove so they can't be picked again
-            ctx.view.println(String.format("\n✓ Added %s to your party!", selectedHero.getName()));
+            ctx.view.printlnf("\n✓ Added %s to your party!", selectedHero.getName());
         }
 
         ctx.view.println("\n=== Your Party ===");
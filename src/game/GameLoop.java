@@ -1,6 +1,8 @@
 package game;
 
+import world.BoardDiffRenderer;
 import world.Position;
+import utils.GameConstants;
 
 /**
  * Main game loop for Legends of Valor.
@@ -9,6 +11,7 @@ import world.Position;
 public class GameLoop {
     private final GameContext ctx;
     private final CommandProcessor commands;
+    private BoardDiffRenderer diffRenderer; // used when ctx.diffRendering is on
 
     public GameLoop(GameContext ctx) {
         this.ctx = ctx;
@@ -19,24 +22,46 @@ public class GameLoop {
         ctx.gameRunning = true;
         while (ctx.gameRunning) {
             displayGameState();
+            ctx.view.flush(); // one write for the whole frame
             commands.processPlayerInput();
         }
+        if (diffRenderer != null) ctx.view.print(diffRenderer.reset());
         ctx.view.println("\nThank you for playing Legends of Valor!");
         ctx.view.close();
     }
 
     // Show the board and list all heroes with their positions
     private void displayGameState() {
+        if (!ctx.view.isListening()) return; // headless: don't build a board nobody sees
+        // opt-in: keep the board pinned at the top and only redraw changed cells
+        if (ctx.diffRendering && ctx.worldMap.getSize() <= GameConstants.VALOR_VIEW_SIZE) {
+            if (diffRenderer == null || diffRenderer.getMap() != ctx.worldMap) {
+                diffRenderer = new BoardDiffRenderer(ctx.worldMap);
+            }
+            ctx.view.print(diffRenderer.nextFrame());
+            ctx.view.println();
+            printHeroes();
+            return;
+        }
+
         ctx.view.println();
         ctx.view.printSeparator();
-        ctx.view.println(ctx.worldMap.displayMap());
-        
+        // big boards only show the area around the selected hero
+        Position focus = null;
+        if (ctx.currentHeroIndex >= 0 && ctx.currentHeroIndex < ctx.party.size()) {
+            focus = ctx.worldMap.getHeroPosition(ctx.party.get(ctx.currentHeroIndex));
+        }
+        ctx.view.println(ctx.worldMap.displayMap(focus));
+        printHeroes();
+    }
+
+    private void printHeroes() {
         // List each hero with their position and mark the currently selected one
         for (int i = 0; i < ctx.party.size(); i++) {
             characters.Hero h = ctx.party.get(i);
             Position p = ctx.worldMap.getHeroPosition(h);
             String sel = (i == ctx.currentHeroIndex) ? "<-- selected" : "";
-            ctx.view.println(String.format("%d) %s at %s %s", i + 1, h.getName(), p, sel));
+            ctx.view.printlnf("%d) %s at %s %s", i + 1, h.getName(), p, sel);
         }
         ctx.view.printSeparator();
     }
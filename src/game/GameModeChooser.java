@@ -1,6 +1,18 @@
 package game;
 
+import io.ConsoleInput;
 import io.ConsoleView;
+import io.RecordingInput;
+import io.View;
+import sim.SessionReplay;
+import utils.Rng;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Presents a simple menu to choose which game mode to play.
@@ -8,7 +20,28 @@ import io.ConsoleView;
  * Option 2: Legends of Valor (uses ValorGameController and ValorWorldMap)
  */
 public class GameModeChooser {
-    private final ConsoleView view = new ConsoleView();
+    private final View view = new ConsoleView();
+    private final Long seed;          // null = a fresh random match each time
+    private final String recordPath;  // null = don't record Valor sessions
+    private boolean allMonstersMove;  // Valor: every monster advances each turn
+    private boolean diffRendering;    // Valor: redraw only changed board cells
+
+    public GameModeChooser() {
+        this(null, null);
+    }
+
+    public GameModeChooser(Long seed, String recordPath) {
+        this.seed = seed;
+        this.recordPath = recordPath;
+    }
+
+    public void setAllMonstersMove(boolean on) {
+        this.allMonstersMove = on;
+    }
+
+    public void setDiffRendering(boolean on) {
+        this.diffRendering = on;
+    }
 
     public void start() {
         boolean running = true;
@@ -39,15 +72,44 @@ public class GameModeChooser {
 
     private void runClassic() {
         view.println("Starting Classic mode...");
-        GameController game = new GameController();
+        GameController game = seed != null ? new GameController(new Rng(seed)) : new GameController();
         game.initialize();
         game.run();
     }
 
     private void runValor() {
         view.println("Starting Legends of Valor mode...");
-        ValorGameController game = new ValorGameController();
-        game.initialize();
-        game.run();
+        // a recording needs a known seed to be replayable
+        long matchSeed = seed != null ? seed : System.nanoTime();
+        RecordingInput recorder = recordPath != null ? new RecordingInput(ConsoleInput.INSTANCE) : null;
+        ValorGameController game;
+        if (recorder != null) {
+            game = new ValorGameController(new Rng(matchSeed), new ConsoleView(recorder));
+        } else {
+            game = seed != null ? new ValorGameController(new Rng(matchSeed)) : new ValorGameController();
+        }
+        game.setAllMonstersMove(allMonstersMove);
+        game.setDiffRendering(diffRendering);
+        try {
+            game.initialize();
+            game.run();
+        } finally {
+            // keep what was played even if the input ends mid-game
+            if (recorder != null) saveSession(matchSeed, recorder.getLines());
+        }
+    }
+
+    // "# seed N" header, then one answer per line (the format sim.SessionReplay reads)
+    private void saveSession(long matchSeed, List<String> answers) {
+        List<String> lines = new ArrayList<>();
+        lines.add("# seed " + matchSeed);
+        if (allMonstersMove) lines.add(SessionReplay.ALL_MONSTERS_MOVE_HEADER);
+        lines.addAll(answers);
+        try {
+            Files.write(Paths.get(recordPath), lines, StandardCharsets.UTF_8);
+            view.println("Session recorded to " + recordPath);
+        } catch (IOException e) {
+            view.println("Could not record session: " + e.getMessage());
+        }
     }
 }
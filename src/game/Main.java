@@ -3,13 +3,29 @@ package game;
 /**
  * Entry point for both game modes.
  * Lets player choose between Classic (Monsters & Heroes) or Legends of Valor.
+ *
+ * Options: --seed N plays seeded (reproducible) matches; --record FILE saves
+ * each Legends of Valor session (seed and every answer typed) so that
+ * sim.SessionReplay can replay it; --all-monsters-move makes every monster
+ * advance after each hero turn in Legends of Valor; --diff redraws only the
+ * board cells that changed (ANSI terminals).
  */
 public class Main {
     
     public static void main(String[] args) {
-        GameModeChooser chooser = new GameModeChooser();
+        Long seed = null;
+        String recordPath = null;
+        boolean allMonstersMove = false;
+        boolean diffRendering = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--seed") && i + 1 < args.length) seed = Long.parseLong(args[++i]);
+            else if (args[i].equals("--record") && i + 1 < args.length) recordPath = args[++i];
+            else if (args[i].equals("--all-monsters-move")) allMonstersMove = true;
+            else if (args[i].equals("--diff")) diffRendering = true;
+        }
+        GameModeChooser chooser = new GameModeChooser(seed, recordPath);
+        chooser.setAllMonstersMove(allMonstersMove);
+        chooser.setDiffRendering(diffRendering);
         chooser.start();
     }
 }
-
-
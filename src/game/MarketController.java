@@ -48,8 +48,8 @@ public class MarketController {
             Hero currentHero = ctx.party.get(currentHeroIndex);
             ctx.view.println();
             ctx.view.printSeparator();
-            ctx.view.println(String.format("Current Hero: %s (Gold: %d)",
-                    currentHero.getName(), currentHero.getGold()));
+            ctx.view.printlnf("Current Hero: %s (Gold: %d)",
+                    currentHero.getName(), currentHero.getGold());
             ctx.view.println();
             ctx.view.println("1. View Market Items");
             ctx.view.println("2. Buy Item");
@@ -104,7 +104,7 @@ public class MarketController {
         }
 
         for (int i = 0; i < items.size(); i++) {
-            ctx.view.println(String.format("%d. %s", i + 1, items.get(i)));
+            ctx.view.printlnf("%d. %s", i + 1, items.get(i));
         }
     }
 
@@ -116,7 +116,7 @@ public class MarketController {
         }
 
         displayMarketItems(market);
-        ctx.view.println(String.format("\nYour gold: %d", hero.getGold()));
+        ctx.view.printlnf("\nYour gold: %d", hero.getGold());
         ctx.view.println("0. Cancel");
 
         int choice = ctx.view.readInt("\nWhich item to buy? ", 0, items.size());
@@ -127,7 +127,7 @@ public class MarketController {
         ctx.view.println("\n" + result.getMessage());
 
         if (result.isSuccess()) {
-            ctx.view.println(String.format("Remaining gold: %d", hero.getGold()));
+            ctx.view.printlnf("Remaining gold: %d", hero.getGold());
         }
     }
 
@@ -142,7 +142,7 @@ public class MarketController {
         for (int i = 0; i < items.size(); i++) {
             Item item = items.get(i);
             int sellPrice = item.getPrice() / 2;
-            ctx.view.println(String.format("%d. %s (Sell for: %d gold)", i + 1, item, sellPrice));
+            ctx.view.printlnf("%d. %s (Sell for: %d gold)", i + 1, item, sellPrice);
         }
         ctx.view.println("0. Cancel");
 
@@ -154,7 +154,7 @@ public class MarketController {
         ctx.view.println("\n" + result.getMessage());
 
         if (result.isSuccess()) {
-            ctx.view.println(String.format("New gold total: %d", hero.getGold()));
+            ctx.view.printlnf("New gold total: %d", hero.getGold());
         }
     }
 
@@ -19,15 +19,15 @@ public class MonsterSpawner {
         this.ctx = ctx;
     }
 
-    // Spawn 3 initial monsters at the top nexus (one per lane)
+    // Spawn initial monsters at the top nexus (one per lane)
     public List<Monster> spawnMonsters() {
         List<Monster> monsters = new ArrayList<>();
-        int monsterCount = 3;
+        int monsterCount = ctx.worldMap != null ? ctx.worldMap.getLaneCount() : 3;
         int targetLevel = getHighestHeroLevel();
 
-        // Create 3 random monsters matching hero level
+        // Create one random monster per lane matching hero level
         for (int i = 0; i < monsterCount; i++) {
-            int typeChoice = (int) (Math.random() * 3);
+            int typeChoice = ctx.rng.nextInt(3);
             Monster monster = null;
 
             // Randomly pick Dragon, Exoskeleton, or Spirit
@@ -72,10 +72,10 @@ public class MonsterSpawner {
         if (ctx.worldMap == null) return;
         int targetLevel = getHighestHeroLevel();
 
-        // Spawn one monster in each of the 3 lanes
-        for (int laneIdx = 0; laneIdx < 3; laneIdx++) {
+        // Spawn one monster in each lane
+        for (int laneIdx = 0; laneIdx < ctx.worldMap.getLaneCount(); laneIdx++) {
             Monster monster = null;
-            int typeChoice = (int) (Math.random() * 3);
+            int typeChoice = ctx.rng.nextInt(3);
             switch (typeChoice) {
                 case 0:
                     if (!ctx.allDragons.isEmpty()) monster = createMonsterOfLevel(ctx.allDragons, targetLevel);
@@ -100,7 +100,7 @@ public class MonsterSpawner {
             boolean placed = false;
             for (int r = 0; r < ctx.worldMap.getSize() && !placed; r++) {
                 for (int col : laneCols) {
-                    Position p = new Position(r, col);
+                    Position p = Position.of(r, col);
                     if (ctx.worldMap.canEnter(p, false)) {
                         ctx.worldMap.placeMonster(p, monster);
                         placed = true;
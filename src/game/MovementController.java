@@ -6,6 +6,7 @@ import battle.Battle;
 import world.Position;
 import world.Cell;
 import world.CellType;
+import world.PathFinder;
 import utils.GameConstants;
 
 import java.util.ArrayList;
@@ -16,18 +17,21 @@ import java.util.Set;
 public class MovementController {
     private final GameContext ctx;
     private final MonsterSpawner spawner;
+    private PathFinder pathFinder; // built on first auto-travel, reused so its cache helps
 
     public MovementController(GameContext ctx) {
         this.ctx = ctx;
         this.spawner = new MonsterSpawner(ctx);
     }
 
-    public void handleHeroMovement(char dir) {
+    // one W/A/S/D step for the selected hero (a full turn: monsters move, battles, spawns);
+    // returns true if the hero moved and the turn ended without a battle or game over
+    public boolean handleHeroMovement(char dir) {
         Hero hero = ctx.party.get(ctx.currentHeroIndex);
         Position from = ctx.worldMap.getHeroPosition(hero);
         if (from == null) {
             ctx.view.println("Error: selected hero is not placed on the board.");
-            return;
+            return false;
         }
 
         // remove any terrain bonus applied while standing on the 'from' tile
@@ -39,29 +43,30 @@ public class MovementController {
             case 'A': to = from.moveLeft(); break;
             case 'S': to = from.moveDown(); break;
             case 'D': to = from.moveRight(); break;
-            default: return;
+            default: return false;
         }
 
         if (!ctx.worldMap.isValidPosition(to)) {
             ctx.view.println("Cannot move there (out of bounds)");
-            return;
+            return false;
         }
 
         boolean moved = ctx.worldMap.move(from, to, true);
         if (!moved) {
             ctx.view.println("Move blocked or invalid.");
-            return;
+            return false;
         }
 
-        ctx.view.println(String.format("%s moved to %s", hero.getName(), to));
+        ctx.view.printlnf("%s moved to %s", hero.getName(), to);
 
         // apply terrain bonus for new tile
         applyTerrainBonus(hero, to);
 
-        ctx.worldMap.stepMonsters();
+        advanceMonsters();
 
         java.util.Map<Monster, Position> encounteredMap = collectMonstersPositionsInRangeOf(hero);
-        if (!encounteredMap.isEmpty()) {
+        boolean fought = !encounteredMap.isEmpty();
+        if (fought) {
             ctx.view.println("\n*** A battle has been triggered by proximity to monsters! ***");
             java.util.List<Monster> encountered = new java.util.ArrayList<>(encounteredMap.keySet());
 
@@ -70,18 +75,19 @@ public class MovementController {
                 if (mp != null) ctx.worldMap.removeMonster(mp);
             }
 
-            Battle battle = new Battle(java.util.Arrays.asList(hero), encountered);
+            Battle battle = new Battle(java.util.Arrays.asList(hero), encountered, ctx.rng.split());
             BattleController bc = new BattleController(ctx);
             boolean heroesWon = bc.runBattle(battle);
 
-            // If monsters won, put them back on the board at their original positions
+            // If monsters won, put the survivors back on the board at their original positions
+            // (a dead monster left on the board would start a battle that can never end)
             if (!heroesWon) {
                 for (java.util.Map.Entry<Monster, Position> e : encounteredMap.entrySet()) {
                     Monster m = e.getKey();
                     Position p = e.getValue();
-                    if (p != null) {
+                    if (p != null && m.isAlive()) {
                         boolean ok = ctx.worldMap.placeMonster(p, m);
-                        if (!ok) ctx.view.println("Warning: failed to restore monster at " + p);
+                        if (!ok) ctx.view.println(() -> "Warning: failed to restore monster at " + p);
                     }
                 }
             }
@@ -99,13 +105,68 @@ public class MovementController {
         if (ctx.worldMap.anyHeroAtTopNexus()) {
             ctx.view.println("\n=== HEROES WIN: one or more heroes reached the enemy Nexus! ===");
             ctx.gameRunning = false;
-            return;
+            return false;
         }
         if (ctx.worldMap.anyMonsterAtBottomNexus()) {
             ctx.view.println("\n=== MONSTERS WIN: monsters reached your Nexus! ===");
             ctx.gameRunning = false;
+            return false;
+        }
+        return !fought;
+    }
+
+    // Auto-travel: walk the selected hero toward the nearest market or the enemy Nexus
+    // along an A* path, one normal turn per step, stopping at the goal, on a battle,
+    // when the path gets blocked, or after AUTO_TRAVEL_MAX_STEPS steps
+    public void handleAutoTravel() {
+        Hero hero = ctx.party.get(ctx.currentHeroIndex);
+        if (ctx.worldMap.getHeroPosition(hero) == null) {
+            ctx.view.println("Error: selected hero is not placed on the board.");
             return;
         }
+
+        ctx.view.println("Travel to:");
+        ctx.view.println("1) Nearest market");
+        ctx.view.println("2) Enemy Nexus");
+        int choice = ctx.view.readInt("Destination: ", 1, 2);
+        PathFinder.Goals goals = PathFinder.goals(choice == 1
+                ? ctx.worldMap.getCellsOfType(CellType.MARKET)
+                : ctx.worldMap.getMonsterNexusCells());
+
+        for (int steps = 0; steps < GameConstants.AUTO_TRAVEL_MAX_STEPS && ctx.gameRunning; steps++) {
+            Position from = ctx.worldMap.getHeroPosition(hero);
+            if (from == null) return; // fainted on the way
+            List<Position> path = pathFinder().findPathToNearest(from, goals);
+            if (path == null) {
+                ctx.view.println(() -> "No route available from " + from + ".");
+                return;
+            }
+            if (path.isEmpty()) {
+                ctx.view.println(() -> hero.getName() + " has arrived.");
+                return;
+            }
+            if (!handleHeroMovement(directionOf(from, path.get(0)))) return;
+        }
+    }
+
+    // monsters' move after a hero turn: one random monster, or all of them
+    private void advanceMonsters() {
+        if (ctx.allMonstersMove) ctx.worldMap.stepAllMonsters();
+        else ctx.worldMap.stepMonsters();
+    }
+
+    private PathFinder pathFinder() {
+        if (pathFinder == null || pathFinder.getGraph() != ctx.worldMap) {
+            pathFinder = new PathFinder(ctx.worldMap);
+        }
+        return pathFinder;
+    }
+
+    // W/A/S/D key for a single orthogonal step
+    private static char directionOf(Position from, Position to) {
+        if (to.getRow() < from.getRow()) return 'W';
+        if (to.getRow() > from.getRow()) return 'S';
+        return to.getCol() < from.getCol() ? 'A' : 'D';
     }
 
     public void handleTeleport() {
@@ -125,7 +186,7 @@ public class MovementController {
 
         for (int i = 0; i < possibleTargets.size(); i++) {
             Hero h = possibleTargets.get(i);
-            ctx.view.println(String.format("%d) %s at %s", i + 1, h.getName(), ctx.worldMap.getHeroPosition(h)));
+            ctx.view.printlnf("%d) %s at %s", i + 1, h.getName(), ctx.worldMap.getHeroPosition(h));
         }
 
         int choice = ctx.view.readInt("Target hero (number): ", 1, possibleTargets.size());
@@ -146,7 +207,7 @@ public class MovementController {
         ctx.view.println("Valid teleport destinations:");
         for (int i = 0; i < dests.size(); i++) {
             Position p = dests.get(i);
-            ctx.view.println(String.format("%d) %s - %s", i + 1, p, ctx.worldMap.getCellAt(p).getType()));
+            ctx.view.printlnf("%d) %s - %s", i + 1, p, ctx.worldMap.getCellAt(p).getType());
         }
 
         int destChoice = ctx.view.readInt("Choose destination: ", 1, dests.size());
@@ -154,7 +215,7 @@ public class MovementController {
 
         boolean ok = ctx.worldMap.teleportHero(from, dest);
         if (ok) {
-            ctx.view.println(mover.getName() + " teleported to " + dest);
+            ctx.view.println(() -> mover.getName() + " teleported to " + dest);
             applyTerrainBonus(mover, dest);
         }
         else ctx.view.println("Teleport failed (destination became invalid).");
@@ -171,7 +232,7 @@ public class MovementController {
         removeTerrainBonus(h);
         boolean ok = ctx.worldMap.recallHero(pos);
         if (ok) {
-            ctx.view.println(h.getName() + " has been recalled to their Nexus spawn.");
+            ctx.view.println(() -> h.getName() + " has been recalled to their Nexus spawn.");
             Position newPos = ctx.worldMap.getHeroPosition(h);
             if (newPos != null) applyTerrainBonus(h, newPos);
         }
@@ -201,17 +262,17 @@ public class MovementController {
 
         ctx.view.println("Choose an obstacle to remove:");
         for (int i = 0; i < obstacles.size(); i++) {
-            ctx.view.println(String.format("%d) %s", i + 1, obstacles.get(i)));
+            ctx.view.printlnf("%d) %s", i + 1, obstacles.get(i));
         }
         int choice = ctx.view.readInt("Choice: ", 1, obstacles.size());
         Position target = obstacles.get(choice - 1);
 
         boolean ok = ctx.worldMap.removeObstacle(target);
         if (ok) {
-            ctx.view.println("You removed the obstacle at " + target + ". It is now plain.");
+            ctx.view.println(() -> "You removed the obstacle at " + target + ". It is now plain.");
 
             // Removing an obstacle consumes a turn: step monsters and advance round
-            ctx.worldMap.stepMonsters();
+            advanceMonsters();
             ctx.roundCounter++;
             if (ctx.spawnInterval > 0 && ctx.roundCounter % ctx.spawnInterval == 0) {
                 ctx.view.println("\nA new wave of monsters has appeared at the enemy Nexus!");
@@ -224,23 +285,10 @@ public class MovementController {
     }
 
     private java.util.Map<Monster, Position> collectMonstersPositionsInRangeOf(Hero hero) {
-        java.util.Map<Monster, Position> map = new java.util.HashMap<>();
         Position hp = ctx.worldMap.getHeroPosition(hero);
-        if (hp == null) return map;
-
-        for (int r = 0; r < ctx.worldMap.getSize(); r++) {
-            for (int c = 0; c < ctx.worldMap.getSize(); c++) {
-                Position mp = new Position(r, c);
-                world.Cell cell = ctx.worldMap.getCellAt(mp);
-                if (cell != null && cell.hasMonster()) {
-                    if (ctx.worldMap.isInRange(hp, mp)) {
-                        map.put(cell.getMonster(), mp);
-                    }
-                }
-            }
-        }
-
-        return map;
+        if (hp == null) return new java.util.HashMap<>();
+        // only the cells around the hero are looked at (occupancy bitboard), not the whole board
+        return ctx.worldMap.monstersWithinChebyshev(hp, GameConstants.ENGAGE_RADIUS);
     }
 
     // Apply terrain bonus to hero based on cell type at position
@@ -271,7 +319,7 @@ public class MovementController {
         if (dexBonus != 0) hero.setDexterity(hero.getDexterity() + dexBonus);
         if (agiBonus != 0) hero.setAgility(hero.getAgility() + agiBonus);
         ctx.terrainBonuses.put(hero, new int[] {strBonus, dexBonus, agiBonus});
-        ctx.view.println(String.format("%s receives terrain bonus: +STR %d +DEX %d +AGI %d", hero.getName(), strBonus, dexBonus, agiBonus));
+        ctx.view.printlnf("%s receives terrain bonus: +STR %d +DEX %d +AGI %d", hero.getName(), strBonus, dexBonus, agiBonus);
     }
 
     // Remove any terrain bonus previously applied to the hero
@@ -283,6 +331,6 @@ public class MovementController {
         if (str != 0) hero.setStrength(Math.max(0, hero.getStrength() - str));
         if (dex != 0) hero.setDexterity(Math.max(0, hero.getDexterity() - dex));
         if (agi != 0) hero.setAgility(Math.max(0, hero.getAgility() - agi));
-        ctx.view.println(String.format("%s loses terrain bonus: -STR %d -DEX %d -AGI %d", hero.getName(), str, dex, agi));
+        ctx.view.printlnf("%s loses terrain bonus: -STR %d -DEX %d -AGI %d", hero.getName(), str, dex, agi);
     }
 }
@@ -38,7 +38,16 @@ public class RespawnManager {
         }
 
         respawnTimers.put(h, 3); // respawn after 3 rounds
-        ctx.view.println(String.format("%s will respawn at their Nexus after 1 round.", h.getName()));
+        ctx.view.printlnf("%s will respawn at their Nexus after 1 round.", h.getName());
+    }
+
+    /**
+     * Queue a hero who couldn't be placed at the start (no free nexus cell) to
+     * enter at their nexus once it frees up, using the same retry as respawns.
+     */
+    public void scheduleEntry(Hero h) {
+        if (h == null) return;
+        respawnTimers.putIfAbsent(h, 1);
     }
 
     /**
@@ -59,7 +68,8 @@ public class RespawnManager {
                 Position spawn = idx >= 0 ? ctx.worldMap.getHeroNexusSpawn(idx) : null;
                 
                 if (spawn != null && ctx.worldMap.canEnter(spawn, true)) {
-                    h.revive();
+                    boolean entering = !h.isFainted(); // queued by scheduleEntry, never fainted
+                    if (!entering) h.revive();
                     ctx.worldMap.placeHero(spawn, h);
 
                     // If nexus has terrain effects, apply them
@@ -78,21 +88,22 @@ public class RespawnManager {
                             if (dex != 0) h.setDexterity(h.getDexterity() + dex);
                             if (agi != 0) h.setAgility(h.getAgility() + agi);
                             ctx.terrainBonuses.put(h, new int[] {str, dex, agi});
-                            ctx.view.println(String.format("%s respawned and receives terrain bonus: +STR %d +DEX %d +AGI %d", h.getName(), str, dex, agi));
+                            ctx.view.printlnf("%s %s and receives terrain bonus: +STR %d +DEX %d +AGI %d", h.getName(),
+                                    entering ? "entered the board" : "respawned", str, dex, agi);
                         } else {
-                            ctx.view.println(String.format("%s has respawned at their Nexus.", h.getName()));
+                            ctx.view.printlnf(entering ? "%s has entered at their Nexus." : "%s has respawned at their Nexus.", h.getName());
                         }
                     } else {
-                        ctx.view.println(String.format("%s has respawned at their Nexus.", h.getName()));
+                        ctx.view.printlnf(entering ? "%s has entered at their Nexus." : "%s has respawned at their Nexus.", h.getName());
                     }
                 } else {
                     // Spawn is blocked, try again next round
                     if (spawn != null) {
-                        ctx.view.println(String.format("%s's Nexus spawn is occupied, respawn delayed.", h.getName()));
+                        ctx.view.printlnf("%s's Nexus spawn is occupied, respawn delayed.", h.getName());
                         e.setValue(1); // Retry next round
                         continue;
                     } else {
-                        ctx.view.println(String.format("No valid Nexus spawn for %s; cannot respawn.", h.getName()));
+                        ctx.view.printlnf("No valid Nexus spawn for %s; cannot respawn.", h.getName());
                     }
                 }
                 it.remove(); // Done respawning this hero
@@ -1,6 +1,9 @@
 package game;
 
+import battle.HeroActionPolicy;
 import io.ConsoleView;
+import io.View;
+import utils.Rng;
 
 /**
  * Main controller for Legends of Valor mode.
@@ -21,12 +24,44 @@ public class ValorGameController {
     private final GameLoop loop;
 
     public ValorGameController() {
+        this(new Rng());
+    }
+
+    // Seeded variant: the same seed and the same inputs replay the same match
+    public ValorGameController(Rng rng) {
+        this(rng, new ConsoleView());
+    }
+
+    // Any View: e.g. a NullView (plus an auto-pilot) to play matches with no console
+    public ValorGameController(Rng rng, View view) {
         this.ctx = new GameContext();
-        this.ctx.view = new ConsoleView();
+        this.ctx.view = view;
+        this.ctx.rng = rng;
         this.initializer = new GameInitializer(ctx);
         this.loop = new GameLoop(ctx);
     }
 
+    // let a policy (e.g. sim.MctsPolicy) play every hero turn in battle
+    public void setBattleAutoPilot(HeroActionPolicy policy) {
+        ctx.autoPilot = policy;
+    }
+
+    // keep the board fixed at the top of the terminal and redraw only changed cells
+    // (less output per turn on slow links); the terminal must understand ANSI escapes
+    public void setDiffRendering(boolean on) {
+        ctx.diffRendering = on;
+    }
+
+    // advance every monster after each hero turn instead of one random monster
+    public void setAllMonstersMove(boolean on) {
+        ctx.allMonstersMove = on;
+    }
+
+    // match state, e.g. to report how a scripted or bot game ended
+    public GameContext getContext() {
+        return ctx;
+    }
+
     public void initialize() {
         initializer.initialize();
     }
@@ -0,0 +1,57 @@
+package io;
+
+import java.util.Collections;
+
+// View that records everything printed instead of showing it
+// For scripted runs and logs: give it the answers (a script, a bot), play, then read
+// the transcript back with getOutput(). Answers are echoed into the transcript the
+// way a terminal would show them.
+public class BufferedView implements View {
+    private final StringBuilder output = new StringBuilder();
+    private final InputSource input;
+
+    public BufferedView() {
+        this(Collections.<String>emptyList());
+    }
+
+    // scripted answers, in order
+    public BufferedView(Iterable<String> input) {
+        this(new ScriptInput(input));
+    }
+
+    public BufferedView(InputSource input) {
+        this.input = input;
+    }
+
+    @Override
+    public void print(String message) {
+        output.append(message);
+    }
+
+    @Override
+    public void println(String message) {
+        output.append(message).append(System.lineSeparator());
+    }
+
+    @Override
+    public InputSource getInput() {
+        return input;
+    }
+
+    @Override
+    public String readLine(String prompt) {
+        print(prompt);
+        String line = input.nextLine(prompt);
+        output.append(line).append(System.lineSeparator());
+        return line;
+    }
+
+    // everything printed so far
+    public String getOutput() {
+        return output.toString();
+    }
+
+    public void clear() {
+        output.setLength(0);
+    }
+}
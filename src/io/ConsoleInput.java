@@ -0,0 +1,31 @@
+package io;
+
+import java.util.Scanner;
+
+// Keyboard input: lines typed on (or piped into) standard input
+// There is one shared Scanner for the whole program. A Scanner reads ahead, so
+// separate Scanners on System.in would each swallow lines meant for the others
+// (piped input used to vanish into the mode chooser's).
+public final class ConsoleInput implements InputSource {
+    public static final ConsoleInput INSTANCE = new ConsoleInput();
+
+    private final Scanner scanner = new Scanner(System.in);
+
+    private ConsoleInput() {
+    }
+
+    @Override
+    public synchronized String nextLine(String prompt) {
+        return scanner.nextLine();
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return true;
+    }
+
+    @Override
+    public synchronized void waitForEnter() {
+        scanner.nextLine();
+    }
+}
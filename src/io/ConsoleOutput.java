@@ -0,0 +1,151 @@
+package io;
+
+import utils.GameConstants;
+
+import java.io.PrintStream;
+
+// Frame-buffered standard output shared by every ConsoleView
+// print/println only append to a buffer; the buffer goes to System.out in one
+// write when a frame is done - when the game is about to read input, when
+// flush() is called, or when it grows past MAX_BUFFERED. One write per frame
+// instead of one per line matters most on slow/remote terminals.
+//
+// In async mode a background thread does the writing, so flush() just hands
+// the frame over and returns; the game loop only waits for the terminal when it
+// needs an answer from the player (awaitWritten()). Everything is shared (one
+// terminal, one buffer) so output from different ConsoleViews stays in order.
+// Whatever is still buffered is written when the JVM exits.
+final class ConsoleOutput {
+    private static final int MAX_BUFFERED = 1 << 16; // chars held before a forced flush
+
+    static final ConsoleOutput INSTANCE = new ConsoleOutput();
+
+    // frame being built; swapped with 'spare' when the writer thread takes it
+    private StringBuilder pending = new StringBuilder(4096);
+    private StringBuilder spare = new StringBuilder(4096);
+    private boolean async;
+    private Thread writer;
+    private boolean handOff;  // a frame is waiting for the writer thread
+    private boolean writing;  // the writer thread is writing one
+
+    private ConsoleOutput() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::awaitWritten, "console-output-exit"));
+        setAsync(GameConstants.ASYNC_CONSOLE_OUTPUT);
+    }
+
+    synchronized void append(String text) {
+        pending.append(text);
+        if (pending.length() >= MAX_BUFFERED) flushFull();
+    }
+
+    synchronized void appendLine(String text) {
+        pending.append(text).append(System.lineSeparator());
+        if (pending.length() >= MAX_BUFFERED) flushFull();
+    }
+
+    // buffer is full: in async mode wait for the writer to pick up the previous
+    // frame first, so a fast producer can't queue up output without bound
+    private void flushFull() {
+        while (async && handOff) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        flush();
+    }
+
+    // end of a frame: write it now, or hand it to the writer thread
+    synchronized void flush() {
+        if (pending.length() == 0) return;
+        if (async) {
+            handOff = true;
+            notifyAll();
+        } else {
+            write(pending);
+        }
+    }
+
+    // flush and wait until everything has actually reached System.out
+    synchronized void awaitWritten() {
+        flush();
+        boolean interrupted = false;
+        while (handOff || writing) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    synchronized void setAsync(boolean enabled) {
+        if (enabled == async) return;
+        if (!enabled) {
+            awaitWritten();
+            async = false;
+            notifyAll(); // writer thread sees async == false and exits
+            writer = null;
+            return;
+        }
+        async = true;
+        writer = new Thread(this::writeLoop, "console-output");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    synchronized boolean isAsync() {
+        return async;
+    }
+
+    private void writeLoop() {
+        while (true) {
+            StringBuilder frame;
+            synchronized (this) {
+                while (!handOff && async && writer == Thread.currentThread()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        stopAfterInterrupt();
+                        return;
+                    }
+                }
+                if (!handOff || writer != Thread.currentThread()) return; // back to synchronous output
+                frame = pending;
+                pending = spare;
+                spare = frame;
+                handOff = false;
+                writing = true;
+                notifyAll(); // a producer may be waiting for room (flushFull)
+            }
+            write(frame); // outside the lock: the game keeps printing the next frame meanwhile
+            synchronized (this) {
+                writing = false;
+                notifyAll();
+            }
+        }
+    }
+
+    // the writer thread was interrupted: go back to synchronous output (writing any
+    // frame already handed over) so flush()/awaitWritten() never wait on a dead thread
+    private synchronized void stopAfterInterrupt() {
+        if (writer != Thread.currentThread()) return; // already replaced or switched off
+        async = false;
+        writer = null;
+        if (handOff) {
+            handOff = false;
+            write(pending);
+        }
+        notifyAll();
+    }
+
+    private static void write(StringBuilder frame) {
+        PrintStream out = System.out;
+        out.append(frame);
+        out.flush();
+        frame.setLength(0);
+    }
+}
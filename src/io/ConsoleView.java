@@ -1,177 +1,82 @@
 package io;
 
-import java.util.Scanner;
-
 // Handles all console input/output
 // All the print statements and user input reading happens here
-public class ConsoleView {
-    private final Scanner scanner;
+// Output is buffered per frame (see ConsoleOutput): it reaches the terminal in
+// one write when the game next asks for input, or on flush().
+public class ConsoleView implements View {
+    private final InputSource input;
+    private final ConsoleOutput output = ConsoleOutput.INSTANCE;
     
     public ConsoleView() {
-        this.scanner = new Scanner(System.in);
+        this(ConsoleInput.INSTANCE);
+    }
+
+    // print to the terminal but take answers from elsewhere (e.g. watch a scripted game)
+    public ConsoleView(InputSource input) {
+        this.input = input;
     }
     
     // print message without newline
+    @Override
     public void print(String message) {
-        System.out.print(message);
+        output.append(String.valueOf(message));
     }
     
     // print message with newline
+    @Override
     public void println(String message) {
-        System.out.println(message);
+        output.appendLine(String.valueOf(message));
     }
     
     // print blank line
+    @Override
     public void println() {
-        System.out.println();
+        output.appendLine("");
     }
     
-    // print separator line
-    public void printSeparator() {
-        System.out.println("================================");
+    // end of a frame: send everything printed so far to the terminal
+    // (returns straight away in async mode; the background writer does the I/O)
+    @Override
+    public void flush() {
+        output.flush();
     }
 
-    // print title banner
-    public void printTitleBanner() {
-        println("╔════════════════════════════════════════════════════════════╗");
-        println("║                                                            ║");
-        println("║           MONSTERS AND HEROES                              ║");
-        println("║           A Text-Based RPG Adventure                       ║");
-        println("║                                                            ║");
-        println("╚════════════════════════════════════════════════════════════╝");
-        println();
+    // write frames from a background thread instead of the game loop
+    // (starts as GameConstants.ASYNC_CONSOLE_OUTPUT)
+    public static void setAsyncOutput(boolean enabled) {
+        ConsoleOutput.INSTANCE.setAsync(enabled);
     }
-    
-    // print game instructions
-    public void printInstructions() {
-        println("=== GAME INSTRUCTIONS ===");
-        println();
-        println("CONTROLS:");
-        println("  W/w - Move Up");
-        println("  A/a - Move Left");
-        println("  S/s - Move Down");
-        println("  D/d - Move Right");
-        println("  I/i - Show Information");
-        println("  M/m - Enter Market (when on Market tile)");
-        println("  Q/q - Quit Game");
-        println();
-        println("MAP SYMBOLS:");
-        println("  P   - Your Party");
-        println("  M   - Market Tile");
-        println("  X   - Inaccessible Tile");
-        println("  ' ' - Common Tile (may trigger battles)");
-        println();
-        println("OBJECTIVE:");
-        println("  Battle monsters, level up your heroes, and reach the enemy Nexus before they reach yours!");
-        println();
-    }
-    
-    // print title banner
-    public void printValorTitleBanner() {
-        println("╔════════════════════════════════════════════════════════════╗");
-        println("║                                                            ║");
-        println("║           LEGENDS OF VALOR                                 ║");
-        println("║           A Text-Based MOBA                                ║");
-        println("║                                                            ║");
-        println("╚════════════════════════════════════════════════════════════╝");
-        println();
-    }
-    
-    // print game instructions
-    public void printValorInstructions() {
-        println("=== GAME INSTRUCTIONS ===");
-        println();
-        println("CONTROLS:");
-        println("  W/w - Move Up");
-        println("  A/a - Move Left");
-        println("  S/s - Move Down");
-        println("  D/d - Move Right");
-        println("  I/i - Show Information");
-        println("  M/m - Enter Market (when on Market tile)");
-        println("  Q/q - Quit Game");
-        println();
-        println("MAP SYMBOLS:");
-        println("  H#   - Your Hero");
-        println("  M#   - Monster");
-        println("  M   - Market Tile");
-        println("  B   - Bush Tile");
-        println("  C   - Cave Tile");
-        println("  K   - Koulou Tile");
-        println("  O   - Obstacle Tile");
-        println("  N   - Nexus Tile");
-        println("  X   - Inaccessible Tile");
-        println("  ' ' - Plain Tile");
-        println();
-        println("OBJECTIVE:");
-        println("  Explore the world, battle monsters, level up your heroes,");
-        println("  and visit markets to buy better equipment!");
-        println();
-    }
-    
-    // read a line of input
-    public String readLine() {
-        return scanner.nextLine();
+
+    @Override
+    public InputSource getInput() {
+        return input;
     }
-    
+
     // read a line with a prompt
+    // the player has to see everything (prompt included) before answering
+    @Override
     public String readLine(String prompt) {
         print(prompt);
-        return scanner.nextLine();
-    }
-    
-    // read an integer (keeps asking until valid)
-    public int readInt(String prompt) {
-        while (true) {
-            print(prompt);
-            try {
-                String input = scanner.nextLine().trim();
-                return Integer.parseInt(input);
-            } catch (NumberFormatException e) {
-                println("Invalid input. Please enter a number.");
-            }
-        }
-    }
-    
-    // read an integer within a range (keeps asking until valid)
-    public int readInt(String prompt, int min, int max) {
-        while (true) {
-            int value = readInt(prompt);
-            if (value >= min && value <= max) {
-                return value;
-            }
-            println(String.format("Please enter a number between %d and %d.", min, max));
-        }
-    }
-    
-    // read yes/no answer from user
-    public boolean readYesNo(String prompt) {
-        while (true) {
-            String input = readLine(prompt + " (y/n): ").trim().toLowerCase();
-            if (input.equals("y") || input.equals("yes")) {
-                return true;
-            } else if (input.equals("n") || input.equals("no")) {
-                return false;
-            }
-            println("Please enter 'y' for yes or 'n' for no.");
-        }
+        output.awaitWritten();
+        return input.nextLine(prompt);
     }
-    
-    // wait for user to press enter
+
+    @Override
     public void waitForEnter() {
+        if (!input.isInteractive()) return;
         println("Press Enter to continue...");
-        scanner.nextLine();
+        output.awaitWritten();
+        input.waitForEnter();
     }
     
-    // close the scanner
+    // write out anything still buffered
+    @Override
     public void close() {
-        // Do not close the underlying System.in stream here.
-        // Closing the Scanner would close System.in which can break other
-        // parts of the application that still read from the console
-        // (for example, the GameModeChooser has its own ConsoleView).
-        // Keep close() as a no-op to avoid IllegalStateException on reuse.
-        // If a real resource cleanup is needed, manage a single shared
-        // ConsoleView instance at application level instead.
-        // Intentionally left blank.
+        output.awaitWritten();
+        // Do not close System.in here: ConsoleInput is shared by every
+        // ConsoleView (for example, the GameModeChooser has its own), and
+        // closing it would break the ones still reading from the console.
     }
 }
 
@@ -0,0 +1,23 @@
+package io;
+
+// Where a View gets the player's answers from
+// ConsoleInput is the keyboard; ScriptInput replays lines from a file or an
+// in-memory queue; RecordingInput logs another source so the session can be
+// replayed; a bot (see sim.ValorBot) decides from the prompt it's given.
+//
+// Only interactive sources make the game pause on "Press Enter to continue",
+// so scripted and bot games run at CPU speed and recorded sessions don't
+// contain (or need) those blank lines.
+public interface InputSource {
+    // the answer to prompt (the text just printed before reading; may be empty)
+    String nextLine(String prompt);
+
+    // true if a person is typing the answers
+    default boolean isInteractive() {
+        return false;
+    }
+
+    // block until the player presses Enter (interactive sources only)
+    default void waitForEnter() {
+    }
+}
@@ -0,0 +1,47 @@
+package io;
+
+import java.util.Collections;
+
+// View that shows nothing, for unattended matches (bots, simulations, benchmarks)
+// isListening() is false, so lazy messages (println(Supplier), printlnf) are never
+// even built. Answers come from a script or a bot; with a non-interactive source
+// waitForEnter() returns at once, so a whole match runs at CPU speed.
+public class NullView implements View {
+    private final InputSource input;
+
+    public NullView() {
+        this(Collections.<String>emptyList());
+    }
+
+    // scripted answers, in order
+    public NullView(Iterable<String> input) {
+        this(new ScriptInput(input));
+    }
+
+    public NullView(InputSource input) {
+        this.input = input;
+    }
+
+    @Override
+    public boolean isListening() {
+        return false;
+    }
+
+    @Override
+    public void print(String message) {
+    }
+
+    @Override
+    public void println(String message) {
+    }
+
+    @Override
+    public InputSource getInput() {
+        return input;
+    }
+
+    @Override
+    public String readLine(String prompt) {
+        return input.nextLine(prompt);
+    }
+}
@@ -0,0 +1,38 @@
+package io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Passes another InputSource through and keeps every answer it gave
+// The recorded lines replay the same session through a ScriptInput. "Press Enter"
+// pauses aren't recorded, since scripted input skips them.
+public class RecordingInput implements InputSource {
+    private final InputSource source;
+    private final List<String> lines = new ArrayList<>();
+
+    public RecordingInput(InputSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public String nextLine(String prompt) {
+        String line = source.nextLine(prompt);
+        lines.add(line);
+        return line;
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return source.isInteractive();
+    }
+
+    @Override
+    public void waitForEnter() {
+        source.waitForEnter();
+    }
+
+    public List<String> getLines() {
+        return Collections.unmodifiableList(lines);
+    }
+}
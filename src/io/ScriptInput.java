@@ -0,0 +1,70 @@
+package io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+// Answers taken in order from a script: a session file, a list, or a queue that
+// a test or driver keeps adding to
+// Running out of lines is an error - the game asked for more than the script has -
+// reported as OutOfInputException so drivers can tell it apart from game bugs.
+public class ScriptInput implements InputSource {
+    // thrown when the game asks for an answer the script doesn't have
+    public static class OutOfInputException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public OutOfInputException(String message) {
+            super(message);
+        }
+    }
+
+    private final Deque<String> lines = new ArrayDeque<>();
+    private int consumed;
+
+    public ScriptInput(Iterable<String> lines) {
+        for (String line : lines) {
+            this.lines.add(line);
+        }
+    }
+
+    public ScriptInput(String... lines) {
+        this(Arrays.asList(lines));
+    }
+
+    // one answer per line; lines starting with '#' are comments (e.g. the "# seed" header)
+    public static ScriptInput fromFile(String path) throws IOException {
+        ScriptInput script = new ScriptInput();
+        for (String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8)) {
+            if (!line.startsWith("#")) script.add(line);
+        }
+        return script;
+    }
+
+    // queue more answers
+    public void add(String... more) {
+        lines.addAll(Arrays.asList(more));
+    }
+
+    public int remaining() {
+        return lines.size();
+    }
+
+    // answers handed out so far
+    public int consumed() {
+        return consumed;
+    }
+
+    @Override
+    public String nextLine(String prompt) {
+        String line = lines.poll();
+        if (line == null) {
+            throw new OutOfInputException("Script ran out of input after " + consumed + " lines at prompt: " + prompt.trim());
+        }
+        consumed++;
+        return line;
+    }
+}
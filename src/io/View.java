@@ -0,0 +1,188 @@
+package io;
+
+import java.util.function.Supplier;
+
+// Where the game sends its text and gets its answers from
+// ConsoleView is the terminal; BufferedView records output (scripted runs, logs);
+// NullView discards it for unattended matches. Answers come from the view's
+// InputSource (keyboard, script, bot), independently of where output goes.
+// Implementations only supply print/println and the input source; menus,
+// prompts and banners are built on top.
+//
+// isListening() is false when output goes nowhere, and the lazy variants -
+// println(Supplier) and printlnf - then skip building the message at all, so
+// headless games don't pay for String.format or concatenation.
+public interface View {
+    // print message without newline
+    void print(String message);
+
+    // print message with newline
+    void println(String message);
+
+    // where the answers come from
+    InputSource getInput();
+
+    // false if output is thrown away (see NullView)
+    default boolean isListening() {
+        return true;
+    }
+
+    // print blank line
+    default void println() {
+        println("");
+    }
+
+    // message built only if someone will see it
+    default void println(Supplier<String> message) {
+        if (isListening()) println(message.get());
+    }
+
+    // println(String.format(format, args)), formatted only if someone will see it
+    default void printlnf(String format, Object... args) {
+        if (isListening()) println(String.format(format, args));
+    }
+
+    // print separator line
+    default void printSeparator() {
+        println("================================");
+    }
+
+    // end of a frame: push buffered output out (no-op if nothing is buffered)
+    default void flush() {
+    }
+
+    // release the view at the end of a game
+    default void close() {
+    }
+
+    // print title banner
+    default void printTitleBanner() {
+        println("╔════════════════════════════════════════════════════════════╗");
+        println("║                                                            ║");
+        println("║           MONSTERS AND HEROES                              ║");
+        println("║           A Text-Based RPG Adventure                       ║");
+        println("║                                                            ║");
+        println("╚════════════════════════════════════════════════════════════╝");
+        println();
+    }
+    
+    // print game instructions
+    default void printInstructions() {
+        println("=== GAME INSTRUCTIONS ===");
+        println();
+        println("CONTROLS:");
+        println("  W/w - Move Up");
+        println("  A/a - Move Left");
+        println("  S/s - Move Down");
+        println("  D/d - Move Right");
+        println("  I/i - Show Information");
+        println("  M/m - Enter Market (when on Market tile)");
+        println("  Q/q - Quit Game");
+        println();
+        println("MAP SYMBOLS:");
+        println("  P   - Your Party");
+        println("  M   - Market Tile");
+        println("  X   - Inaccessible Tile");
+        println("  ' ' - Common Tile (may trigger battles)");
+        println();
+        println("OBJECTIVE:");
+        println("  Battle monsters, level up your heroes, and reach the enemy Nexus before they reach yours!");
+        println();
+    }
+    
+    // print title banner
+    default void printValorTitleBanner() {
+        println("╔════════════════════════════════════════════════════════════╗");
+        println("║                                                            ║");
+        println("║           LEGENDS OF VALOR                                 ║");
+        println("║           A Text-Based MOBA                                ║");
+        println("║                                                            ║");
+        println("╚════════════════════════════════════════════════════════════╝");
+        println();
+    }
+    
+    // print game instructions
+    default void printValorInstructions() {
+        println("=== GAME INSTRUCTIONS ===");
+        println();
+        println("CONTROLS:");
+        println("  W/w - Move Up");
+        println("  A/a - Move Left");
+        println("  S/s - Move Down");
+        println("  D/d - Move Right");
+        println("  I/i - Show Information");
+        println("  M/m - Enter Market (when on Market tile)");
+        println("  Q/q - Quit Game");
+        println();
+        println("MAP SYMBOLS:");
+        println("  H#   - Your Hero");
+        println("  M#   - Monster");
+        println("  M   - Market Tile");
+        println("  B   - Bush Tile");
+        println("  C   - Cave Tile");
+        println("  K   - Koulou Tile");
+        println("  O   - Obstacle Tile");
+        println("  N   - Nexus Tile");
+        println("  X   - Inaccessible Tile");
+        println("  ' ' - Plain Tile");
+        println();
+        println("OBJECTIVE:");
+        println("  Explore the world, battle monsters, level up your heroes,");
+        println("  and visit markets to buy better equipment!");
+        println();
+    }
+
+    // read a line of input
+    default String readLine() {
+        return readLine("");
+    }
+
+    // read a line with a prompt
+    default String readLine(String prompt) {
+        print(prompt);
+        return getInput().nextLine(prompt);
+    }
+
+    // read an integer (keeps asking until valid)
+    default int readInt(String prompt) {
+        while (true) {
+            try {
+                String input = readLine(prompt).trim();
+                return Integer.parseInt(input);
+            } catch (NumberFormatException e) {
+                println("Invalid input. Please enter a number.");
+            }
+        }
+    }
+    
+    // read an integer within a range (keeps asking until valid)
+    default int readInt(String prompt, int min, int max) {
+        while (true) {
+            int value = readInt(prompt);
+            if (value >= min && value <= max) {
+                return value;
+            }
+            printlnf("Please enter a number between %d and %d.", min, max);
+        }
+    }
+    
+    // read yes/no answer from user
+    default boolean readYesNo(String prompt) {
+        while (true) {
+            String input = readLine(prompt + " (y/n): ").trim().toLowerCase();
+            if (input.equals("y") || input.equals("yes")) {
+                return true;
+            } else if (input.equals("n") || input.equals("no")) {
+                return false;
+            }
+            println("Please enter 'y' for yes or 'n' for no.");
+        }
+    }
+    
+    // wait for user to press enter (only if a person is at the keyboard)
+    default void waitForEnter() {
+        if (!getInput().isInteractive()) return;
+        println("Press Enter to continue...");
+        getInput().waitForEnter();
+    }
+}
@@ -45,6 +45,11 @@ public abstract class Item {
         }
     }
     
+    // put the use counter back to a previously saved value (battle snapshots / search rollback)
+    public void setRemainingUses(int remainingUses) {
+        this.remainingUses = remainingUses;
+    }
+    
     public abstract String getItemType();
     
     @Override
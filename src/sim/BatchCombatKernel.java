@@ -0,0 +1,214 @@
+package sim;
+
+import characters.Hero;
+import characters.Monster;
+import utils.GameConstants;
+import utils.Rng;
+
+/**
+ * Structure-of-arrays combat kernel for resolving many independent 1v1
+ * battles at once.
+ *
+ * Each lane is one hero vs one monster battle. Combat stats are packed into
+ * primitive arrays when a lane is loaded (damage after defense, dodge chances,
+ * regen), so the round loop never touches a Hero or Monster object and never
+ * calls a getter. The per-round update is branch-free int/double arithmetic
+ * over the arrays, which lets the JIT vectorize it; random numbers for the
+ * round are drawn into their own arrays beforehand. Finished lanes are
+ * compacted out so long-running battles don't keep paying for finished ones.
+ *
+ * The rules are the same as a Battle played by BattleEngine with an
+ * attack-only hero (hero attacks, monster attacks, hero regenerates), so only
+ * matchups where the hero has no spells or potions can be resolved here (see
+ * {@link #supports}). Results are statistically identical to the object path
+ * but use the random stream differently, so individual battles don't match.
+ */
+public class BatchCombatKernel {
+    private final int capacity;
+
+    // per lane combat stats (constant for the whole battle)
+    private final int[] heroHit;        // damage a landed hero attack does
+    private final int[] monsterHit;     // damage a landed monster attack does
+    private final double[] heroDodge;
+    private final double[] monsterDodge;
+    private final int[] heroRegen;
+    private final int[] heroMaxHp;
+
+    // per lane battle state
+    private final int[] heroHp;
+    private final int[] monsterHp;
+    private final int[] running;        // 1 while the battle is still going, 0 once it's decided
+    private final int[] rounds;
+    private final int[] laneId;         // which loaded lane sits at each packed position
+
+    // random draws for one round
+    private final double[] heroRoll;
+    private final double[] monsterRoll;
+
+    // results, indexed by the lane number given to load()
+    private final boolean[] heroWon;
+    private final int[] roundsTaken;
+
+    private int lanes;
+
+    public BatchCombatKernel(int capacity) {
+        this.capacity = capacity;
+        this.heroHit = new int[capacity];
+        this.monsterHit = new int[capacity];
+        this.heroDodge = new double[capacity];
+        this.monsterDodge = new double[capacity];
+        this.heroRegen = new int[capacity];
+        this.heroMaxHp = new int[capacity];
+        this.heroHp = new int[capacity];
+        this.monsterHp = new int[capacity];
+        this.running = new int[capacity];
+        this.rounds = new int[capacity];
+        this.laneId = new int[capacity];
+        this.heroRoll = new double[capacity];
+        this.monsterRoll = new double[capacity];
+        this.heroWon = new boolean[capacity];
+        this.roundsTaken = new int[capacity];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // true if the kernel's attack-only rules match what BasicHeroPolicy would do for this hero
+    public static boolean supports(Hero hero) {
+        return hero.getInventory().getSpells().isEmpty() && hero.getInventory().getPotions().isEmpty();
+    }
+
+    // drop all loaded lanes
+    public void clear() {
+        lanes = 0;
+    }
+
+    public int getLaneCount() {
+        return lanes;
+    }
+
+    // pack one hero vs monster battle into the next lane and return its lane number
+    // (the objects are only read here, never modified)
+    public int load(Hero hero, Monster monster) {
+        if (lanes == capacity) {
+            throw new IllegalStateException("Kernel is full (" + capacity + " lanes)");
+        }
+        int i = lanes++;
+        heroHit[i] = Math.max(1, hero.calculateDamage() - monster.getScaledDefense());
+        monsterHit[i] = Math.max(0, monster.getScaledDamage() - hero.getDefense());
+        heroDodge[i] = hero.getDodgeChance();
+        monsterDodge[i] = monster.getEffectiveDodgeChance();
+        heroRegen[i] = (int) (hero.getMaxHp() * GameConstants.HP_REGEN_RATE);
+        heroMaxHp[i] = hero.getMaxHp();
+        heroHp[i] = hero.getHp();
+        monsterHp[i] = monster.getHp();
+        running[i] = (hero.isAlive() && monster.isAlive()) ? 1 : 0;
+        rounds[i] = 0;
+        laneId[i] = i;
+        heroWon[i] = false;
+        roundsTaken[i] = 0;
+        return i;
+    }
+
+    // same matchup in the next count lanes - the usual Monte Carlo setup
+    public void loadCopies(Hero hero, Monster monster, int count) {
+        for (int k = 0; k < count; k++) {
+            load(hero, monster);
+        }
+    }
+
+    // play every loaded lane to the end (or until maxRounds); results via heroWon/getRounds
+    public void resolve(Rng rng, int maxRounds) {
+        // lanes that are already decided before the first round drop out straight away
+        int active = compact(lanes);
+
+        for (int round = 0; round < maxRounds && active > 0; round++) {
+            for (int i = 0; i < active; i++) {
+                heroRoll[i] = rng.nextDouble();
+                monsterRoll[i] = rng.nextDouble();
+            }
+
+            int stillRunning = step(active);
+
+            // squeeze finished lanes out once they make up half the batch
+            if (stillRunning <= active / 2) {
+                active = compact(active);
+            }
+        }
+
+        // whatever is left hit the round cap (counts as a loss, like BattleEngine's timeout)
+        for (int i = 0; i < active; i++) {
+            record(i);
+        }
+    }
+
+    // one round for the packed lanes [0, active): hero attack, monster attack, regen.
+    // Branch-free so the loop stays vectorizable; finished lanes are multiplied out.
+    private int step(int active) {
+        int stillRunning = 0;
+        for (int i = 0; i < active; i++) {
+            int run = running[i];
+
+            int heroDamage = heroRoll[i] >= monsterDodge[i] ? heroHit[i] : 0;
+            int mHp = monsterHp[i] - heroDamage * run;
+            int monsterUp = mHp > 0 ? 1 : 0;
+
+            int monsterDamage = monsterRoll[i] >= heroDodge[i] ? monsterHit[i] : 0;
+            int hHp = heroHp[i] - monsterDamage * run * monsterUp;
+            int heroUp = hHp > 0 ? 1 : 0;
+            hHp = Math.min(heroMaxHp[i], hHp + heroRegen[i] * run * monsterUp * heroUp);
+
+            monsterHp[i] = mHp;
+            heroHp[i] = hHp;
+            rounds[i] += run;
+            run = run * monsterUp * heroUp;
+            running[i] = run;
+            stillRunning += run;
+        }
+        return stillRunning;
+    }
+
+    // record finished lanes and move the running ones to the front; returns the new active count
+    private int compact(int active) {
+        int keep = 0;
+        for (int i = 0; i < active; i++) {
+            if (running[i] == 0) {
+                record(i);
+                continue;
+            }
+            if (keep != i) moveLane(i, keep);
+            keep++;
+        }
+        return keep;
+    }
+
+    private void record(int i) {
+        int id = laneId[i];
+        heroWon[id] = monsterHp[i] <= 0 && heroHp[i] > 0;
+        roundsTaken[id] = rounds[i];
+    }
+
+    private void moveLane(int from, int to) {
+        heroHit[to] = heroHit[from];
+        monsterHit[to] = monsterHit[from];
+        heroDodge[to] = heroDodge[from];
+        monsterDodge[to] = monsterDodge[from];
+        heroRegen[to] = heroRegen[from];
+        heroMaxHp[to] = heroMaxHp[from];
+        heroHp[to] = heroHp[from];
+        monsterHp[to] = monsterHp[from];
+        running[to] = running[from];
+        rounds[to] = rounds[from];
+        laneId[to] = laneId[from];
+    }
+
+    // results for the lane number returned by load()
+    public boolean heroWon(int lane) {
+        return heroWon[lane];
+    }
+
+    public int getRounds(int lane) {
+        return roundsTaken[lane];
+    }
+}
@@ -0,0 +1,102 @@
+package sim;
+
+import characters.*;
+import items.*;
+
+// Copies heroes and monsters so simulations never mutate the loaded templates
+// Every simulated battle needs its own fresh set of combatants.
+public final class Combatants {
+
+    private Combatants() {}
+
+    // fresh copy of a hero with the same class, level and stats (inventory is not copied)
+    public static Hero copyHero(Hero h) {
+        Hero copy;
+        switch (h.getHeroClass()) {
+            case WARRIOR:
+                copy = new Warrior(h.getName(), h.getLevel(), h.getMaxHp(), h.getMaxMp(),
+                        h.getStrength(), h.getDexterity(), h.getAgility(), h.getGold(), h.getExperience());
+                break;
+            case SORCERER:
+                copy = new Sorcerer(h.getName(), h.getLevel(), h.getMaxHp(), h.getMaxMp(),
+                        h.getStrength(), h.getDexterity(), h.getAgility(), h.getGold(), h.getExperience());
+                break;
+            case PALADIN:
+            default:
+                copy = new Paladin(h.getName(), h.getLevel(), h.getMaxHp(), h.getMaxMp(),
+                        h.getStrength(), h.getDexterity(), h.getAgility(), h.getGold(), h.getExperience());
+                break;
+        }
+        copy.setHp(h.getHp());
+        copy.setMp(h.getMp());
+        return copy;
+    }
+
+    // full copy of a hero mid-battle: stats, inventory (own item instances, same uses left)
+    // and equipment, so a simulation can play on without touching the real hero
+    public static Hero copyHeroWithGear(Hero h) {
+        Hero copy = copyHero(h);
+        copy.setStrength(h.getStrength());
+        copy.setDexterity(h.getDexterity());
+        copy.setAgility(h.getAgility());
+        for (Item item : h.getInventory().getAllItems()) {
+            Item itemCopy = copyItem(item);
+            copy.getInventory().addItem(itemCopy);
+            if (item == h.getEquippedWeapon()) copy.equipWeapon((Weapon) itemCopy);
+            if (item == h.getEquippedArmor()) copy.equipArmor((Armor) itemCopy);
+        }
+        return copy;
+    }
+
+    // copy of an item with the same stats and remaining uses
+    public static Item copyItem(Item item) {
+        Item copy;
+        if (item instanceof Weapon) {
+            Weapon w = (Weapon) item;
+            copy = new Weapon(w.getName(), w.getPrice(), w.getRequiredLevel(), w.getDamage(), w.getHandsRequired());
+        } else if (item instanceof Armor) {
+            Armor a = (Armor) item;
+            copy = new Armor(a.getName(), a.getPrice(), a.getRequiredLevel(), a.getDamageReduction());
+        } else if (item instanceof Potion) {
+            Potion p = (Potion) item;
+            copy = new Potion(p.getName(), p.getPrice(), p.getRequiredLevel(), p.getAttributeIncrease(),
+                    p.getAttributesAffected());
+        } else {
+            Spell sp = (Spell) item;
+            copy = new Spell(sp.getName(), sp.getPrice(), sp.getRequiredLevel(), sp.getBaseDamage(),
+                    sp.getManaCost(), sp.getSpellType());
+        }
+        copy.setRemainingUses(item.getRemainingUses());
+        return copy;
+    }
+
+    // fresh copy of a monster with exactly the same stats
+    // (the subclass constructors apply their type boost again, so the stats are reset afterwards)
+    public static Monster copyMonster(Monster m) {
+        Monster copy;
+        switch (m.getMonsterType()) {
+            case DRAGON:
+                copy = new Dragon(m.getName(), m.getLevel(), m.getMaxHp(), m.getBaseDamage(), m.getDefense(), 0);
+                break;
+            case EXOSKELETON:
+                copy = new Exoskeleton(m.getName(), m.getLevel(), m.getMaxHp(), m.getBaseDamage(), m.getDefense(), 0);
+                break;
+            case SPIRIT:
+            default:
+                copy = new Spirit(m.getName(), m.getLevel(), m.getMaxHp(), m.getBaseDamage(), m.getDefense(), 0);
+                break;
+        }
+        copy.setBaseDamage(m.getBaseDamage());
+        copy.setDefense(m.getDefense());
+        copy.setDodgeChance(m.getDodgeChance());
+        copy.setHp(m.getHp());
+        return copy;
+    }
+
+    // copy of a monster mid-battle, spell debuffs included
+    public static Monster copyMonsterWithDebuffs(Monster m) {
+        Monster copy = copyMonster(m);
+        copy.restoreDebuffs(m.getDamageReduction(), m.getDefenseReduction(), m.getDodgeReduction());
+        return copy;
+    }
+}
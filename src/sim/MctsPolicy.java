@@ -0,0 +1,330 @@
+package sim;
+
+import battle.BasicHeroPolicy;
+import battle.Battle;
+import battle.BattleEngine;
+import battle.BattleSnapshot;
+import battle.HeroAction;
+import battle.HeroActionPolicy;
+import characters.Character;
+import characters.Hero;
+import characters.Monster;
+import items.Armor;
+import items.Item;
+import items.Potion;
+import items.Spell;
+import items.Weapon;
+import utils.BattleAction;
+import utils.Rng;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Monte Carlo tree search auto-pilot for hero turns.
+ *
+ * Every legal action for the hero (attack or cast a spell on each alive
+ * monster, drink a potion, equip a better item) is a child of the root. Each
+ * iteration picks a child with UCB1, plays it on a private copy of the battle
+ * and finishes the battle with BasicHeroPolicy rollouts; the reward is the
+ * outcome plus how much HP each side has left. The action visited most is
+ * returned.
+ *
+ * Search is root-parallel over fixed shards: the iterations are cut into
+ * shards of about ITERATIONS_PER_SHARD, each with its own copy of the
+ * combatants and its own split of the policy's Rng, and the shards' visit
+ * counts are merged in shard order at the end. The worker count only decides
+ * how many threads run the shards. The battle copy is reset between
+ * iterations with a BattleSnapshot, so iterations don't allocate combatants.
+ *
+ * Decisions depend only on the seed, the iteration budget and the sequence of
+ * battles the policy is asked about - not on the worker count or the machine -
+ * as long as the iteration budget is what stops the search. The time budget
+ * (if set) is only a safety cap, and a search cut short by it depends on
+ * machine speed.
+ */
+public class MctsPolicy implements HeroActionPolicy {
+    public static final int DEFAULT_ITERATIONS = 4000;
+    public static final int DEFAULT_ROLLOUT_ROUNDS = 50;
+
+    public static final int ITERATIONS_PER_SHARD = 250;
+
+    private static final double EXPLORATION = 0.7;
+
+    private final Rng rng;
+    private final int iterations;
+    private final long timeBudgetNanos;
+    private final int workers;
+    private final int rolloutRounds;
+    private final ForkJoinPool pool;
+
+    // DEFAULT_ITERATIONS per decision, no time cap, one worker per core
+    // (same decisions on any core count, see the class comment)
+    public MctsPolicy(long seed) {
+        this(seed, DEFAULT_ITERATIONS, 0, Runtime.getRuntime().availableProcessors());
+    }
+
+    // timeBudgetMillis <= 0 means no time cap
+    public MctsPolicy(long seed, int iterations, long timeBudgetMillis, int workers) {
+        this.rng = new Rng(seed);
+        this.iterations = iterations;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.workers = Math.max(1, workers);
+        this.rolloutRounds = DEFAULT_ROLLOUT_ROUNDS;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public HeroAction chooseAction(Battle battle, Hero hero) {
+        int heroIndex = battle.getHeroes().indexOf(hero);
+        if (heroIndex < 0 || !hero.isAlive() || battle.getAliveMonsterCount() == 0) return null;
+
+        List<Candidate> candidates = listCandidates(battle, hero);
+        if (candidates.size() == 1) {
+            return candidates.get(0).toAction(battle.getMonsters(), inventoryOf(hero));
+        }
+
+        // shards (count, streams, budgets) depend only on the iteration budget, split up
+        // front in order, so neither the worker count nor scheduling changes the result
+        long deadline = timeBudgetNanos > 0 ? System.nanoTime() + timeBudgetNanos : Long.MAX_VALUE;
+        int shards = Math.max(1, (iterations + ITERATIONS_PER_SHARD - 1) / ITERATIONS_PER_SHARD);
+        Rng[] shardRng = new Rng[shards];
+        for (int s = 0; s < shards; s++) shardRng[s] = rng.split();
+        Stats[] results = new Stats[shards];
+
+        int threads = Math.min(workers, shards);
+        List<Callable<Void>> tasks = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int first = t;
+            tasks.add(() -> {
+                for (int s = first; s < shards; s += threads) {
+                    int budget = iterations / shards + (s < iterations % shards ? 1 : 0);
+                    results[s] = new Worker(battle, heroIndex, candidates, shardRng[s]).search(budget, deadline);
+                }
+                return null;
+            });
+        }
+        if (threads == 1) {
+            runInline(tasks.get(0));
+        } else {
+            for (Future<Void> f : pool.invokeAll(tasks)) join(f);
+        }
+
+        Stats total = new Stats(candidates.size());
+        for (Stats shard : results) total.add(shard); // shard order keeps the sums identical
+
+        return candidates.get(total.best()).toAction(battle.getMonsters(), inventoryOf(hero));
+    }
+
+    // every action the hero can take right now (equips only if they change something)
+    private static List<Candidate> listCandidates(Battle battle, Hero hero) {
+        List<Candidate> out = new ArrayList<>();
+        List<Monster> monsters = battle.getMonsters();
+        Item[] items = inventoryOf(hero);
+
+        for (int m = 0; m < monsters.size(); m++) {
+            if (monsters.get(m).isAlive()) out.add(new Candidate(BattleAction.ATTACK, m, -1));
+        }
+        for (int i = 0; i < items.length; i++) {
+            Item item = items[i];
+            if (!item.hasUsesLeft()) continue;
+            if (item instanceof Spell) {
+                if (!hero.hasMana(((Spell) item).getManaCost())) continue;
+                for (int m = 0; m < monsters.size(); m++) {
+                    if (monsters.get(m).isAlive()) out.add(new Candidate(BattleAction.CAST_SPELL, m, i));
+                }
+            } else if (item instanceof Potion) {
+                out.add(new Candidate(BattleAction.USE_POTION, -1, i));
+            } else if (item.getRequiredLevel() <= hero.getLevel()
+                    && item != hero.getEquippedWeapon() && item != hero.getEquippedArmor()) {
+                out.add(new Candidate(BattleAction.EQUIP, -1, i));
+            }
+        }
+        return out;
+    }
+
+    private static Item[] inventoryOf(Hero hero) {
+        return hero.getInventory().getAllItems().toArray(new Item[0]);
+    }
+
+    private static void runInline(Callable<Void> task) {
+        try {
+            task.call();
+        } catch (Exception e) {
+            throw new IllegalStateException("MCTS worker failed", e);
+        }
+    }
+
+    private static void join(Future<Void> f) {
+        try {
+            f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("MCTS search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("MCTS worker failed", e.getCause());
+        }
+    }
+
+    // root action, stored as indexes so it can be applied to any copy of the battle
+    private static class Candidate {
+        final BattleAction type;
+        final int monster; // index into battle.getMonsters(), -1 if none
+        final int item;    // index into the hero's inventory, -1 if none
+
+        Candidate(BattleAction type, int monster, int item) {
+            this.type = type;
+            this.monster = monster;
+            this.item = item;
+        }
+
+        HeroAction toAction(List<Monster> monsters, Item[] items) {
+            switch (type) {
+                case CAST_SPELL:
+                    return HeroAction.castSpell((Spell) items[item], monsters.get(monster));
+                case USE_POTION:
+                    return HeroAction.usePotion((Potion) items[item]);
+                case EQUIP:
+                    return items[item] instanceof Weapon
+                            ? HeroAction.equip((Weapon) items[item])
+                            : HeroAction.equip((Armor) items[item]);
+                case ATTACK:
+                default:
+                    return HeroAction.attack(monsters.get(monster));
+            }
+        }
+    }
+
+    // visit counts and summed rewards per root action
+    private static class Stats {
+        final int[] visits;
+        final double[] reward;
+
+        Stats(int n) {
+            this.visits = new int[n];
+            this.reward = new double[n];
+        }
+
+        void add(Stats other) {
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += other.visits[i];
+                reward[i] += other.reward[i];
+            }
+        }
+
+        // UCB1 pick; untried actions first
+        int select(int totalVisits) {
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double logN = Math.log(totalVisits);
+            for (int i = 0; i < visits.length; i++) {
+                if (visits[i] == 0) return i;
+                double score = reward[i] / visits[i] + EXPLORATION * Math.sqrt(logN / visits[i]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        // most visited action, ties broken by mean reward then by order
+        int best() {
+            int best = 0;
+            for (int i = 1; i < visits.length; i++) {
+                if (visits[i] > visits[best]
+                        || (visits[i] == visits[best] && visits[i] > 0
+                            && reward[i] / visits[i] > reward[best] / visits[best])) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+
+    // one search shard: private copy of the battle, reset from a snapshot every iteration
+    private class Worker {
+        private final Battle battle;
+        private final Hero hero;
+        private final int heroIndex;
+        private final Item[] items;
+        private final List<Candidate> candidates;
+        private final BattleSnapshot root;
+        private final BattleEngine rollout;
+        private final Battle.BattleResult scratch = new Battle.BattleResult();
+
+        Worker(Battle original, int heroIndex, List<Candidate> candidates, Rng random) {
+            List<Hero> heroes = new ArrayList<>();
+            for (Hero h : original.getHeroes()) heroes.add(Combatants.copyHeroWithGear(h));
+            List<Monster> monsters = new ArrayList<>();
+            for (Monster m : original.getMonsters()) monsters.add(Combatants.copyMonsterWithDebuffs(m));
+
+            this.battle = new Battle(heroes, monsters, random);
+            this.heroIndex = heroIndex;
+            this.hero = heroes.get(heroIndex);
+            this.items = inventoryOf(hero);
+            this.candidates = candidates;
+            this.root = new BattleSnapshot(battle);
+            this.rollout = new BattleEngine(new BasicHeroPolicy(), rolloutRounds);
+        }
+
+        Stats search(int budget, long deadline) {
+            Stats stats = new Stats(candidates.size());
+            for (int n = 0; n < budget; n++) {
+                // check the clock every few iterations only
+                if ((n & 15) == 0 && System.nanoTime() > deadline) break;
+
+                int pick = stats.select(n);
+                stats.visits[pick]++;
+                stats.reward[pick] += simulate(candidates.get(pick));
+                root.restore();
+            }
+            return stats;
+        }
+
+        // play the candidate, the rest of this round, then rollouts to the end
+        private double simulate(Candidate candidate) {
+            HeroAction action = candidate.toAction(battle.getMonsters(), items);
+            if (!rollout.perform(battle, hero, action, scratch)) {
+                rollout.takeTurn(battle, hero, scratch); // equip was free, hero still acts
+            }
+
+            // heroes after this one still get their turn this round (same order as BattleController)
+            List<Hero> heroes = battle.getHeroes();
+            for (int i = heroIndex + 1; i < heroes.size() && !battle.isBattleEnded(); i++) {
+                if (heroes.get(i).isAlive()) rollout.takeTurn(battle, heroes.get(i), scratch);
+            }
+            if (!battle.isBattleEnded()) {
+                battle.monstersAttackPhase(scratch);
+                battle.regenerateHeroes();
+            }
+            if (!battle.isBattleEnded()) {
+                rollout.run(battle);
+            }
+            return score();
+        }
+
+        // 0..1: a win is worth at least 0.5 (more with HP to spare), a loss or timeout
+        // at most 0.5 depending on how hurt the monsters are
+        private double score() {
+            if (battle.isBattleEnded() && battle.didHeroesWin()) {
+                return 0.5 + 0.5 * hpFraction(battle.getHeroes());
+            }
+            return 0.5 * (1 - hpFraction(battle.getMonsters()));
+        }
+
+        private double hpFraction(List<? extends Character> units) {
+            long hp = 0;
+            long max = 0;
+            for (Character c : units) {
+                hp += c.getHp();
+                max += c.getMaxHp();
+            }
+            return max == 0 ? 0 : (double) hp / max;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package sim;
+
+import battle.Battle;
+import battle.BattleEngine;
+import battle.BattleOutcome;
+import battle.FocusFirePolicy;
+import characters.Hero;
+import characters.Monster;
+import io.DataLoader;
+import items.Armor;
+import utils.Rng;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Raid-scale combat benchmark: hundreds of heroes against thousands of monsters
+ * in a single Battle, used to measure how the combat core scales.
+ *
+ * Heroes are copies of the loaded rosters wearing the best armor they can equip,
+ * monsters are copies of the templates at the requested level. Raids are played
+ * back to back with BattleEngine + FocusFirePolicy until the time budget runs
+ * out, and the rounds/actions per second of the battle loop itself (setup
+ * excluded) are reported.
+ *
+ * Run with: java -cp bin sim.RaidBenchmark [heroes] [monsters] [seconds] [monsterLevel] [seed]
+ */
+public class RaidBenchmark {
+    public static final int DEFAULT_HEROES = 300;
+    public static final int DEFAULT_MONSTERS = 3000;
+    public static final int DEFAULT_SECONDS = 10;
+    public static final int DEFAULT_MONSTER_LEVEL = 1;
+
+    private final List<Hero> heroTemplates;
+    private final List<Monster> monsterTemplates;
+    private final Armor raidArmor;
+    private final int heroCount;
+    private final int monsterCount;
+
+    public RaidBenchmark(List<Hero> heroTemplates, List<Monster> monsterTemplates, Armor raidArmor,
+                         int heroCount, int monsterCount) {
+        this.heroTemplates = heroTemplates;
+        this.monsterTemplates = monsterTemplates;
+        this.raidArmor = raidArmor;
+        this.heroCount = heroCount;
+        this.monsterCount = monsterCount;
+    }
+
+    // fresh raid battle: templates are cycled until both sides are full
+    public Battle createRaid(Rng rng) {
+        List<Hero> heroes = new ArrayList<>(heroCount);
+        for (int i = 0; i < heroCount; i++) {
+            Hero h = Combatants.copyHero(heroTemplates.get(i % heroTemplates.size()));
+            if (raidArmor != null) {
+                h.getInventory().addItem(raidArmor);
+                h.equipArmor(raidArmor);
+            }
+            heroes.add(h);
+        }
+        List<Monster> monsters = new ArrayList<>(monsterCount);
+        for (int i = 0; i < monsterCount; i++) {
+            monsters.add(Combatants.copyMonster(monsterTemplates.get(i % monsterTemplates.size())));
+        }
+        return new Battle(heroes, monsters, rng);
+    }
+
+    public static void main(String[] args) {
+        int heroCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_HEROES;
+        int monsterCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MONSTERS;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SECONDS;
+        int monsterLevel = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MONSTER_LEVEL;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+
+        List<Hero> heroes = new ArrayList<>();
+        heroes.addAll(DataLoader.loadWarriors("Warriors.txt"));
+        heroes.addAll(DataLoader.loadSorcerers("Sorcerers.txt"));
+        heroes.addAll(DataLoader.loadPaladins("Paladins.txt"));
+
+        List<Monster> monsters = new ArrayList<>();
+        for (Monster m : DataLoader.loadDragons("Dragons.txt")) if (m.getLevel() == monsterLevel) monsters.add(m);
+        for (Monster m : DataLoader.loadExoskeletons("Exoskeletons.txt")) if (m.getLevel() == monsterLevel) monsters.add(m);
+        for (Monster m : DataLoader.loadSpirits("Spirits.txt")) if (m.getLevel() == monsterLevel) monsters.add(m);
+
+        if (heroes.isEmpty() || monsters.isEmpty()) {
+            System.err.println("No heroes or no level " + monsterLevel + " monsters could be loaded. Check data files.");
+            return;
+        }
+
+        // best armor a level 1 hero can wear
+        Armor raidArmor = null;
+        for (Armor a : DataLoader.loadArmor("Armory.txt")) {
+            if (a.getRequiredLevel() <= heroes.get(0).getLevel()
+                    && (raidArmor == null || a.getDamageReduction() > raidArmor.getDamageReduction())) {
+                raidArmor = a;
+            }
+        }
+
+        RaidBenchmark bench = new RaidBenchmark(heroes, monsters, raidArmor, heroCount, monsterCount);
+        BattleEngine engine = new BattleEngine(new FocusFirePolicy(), Integer.MAX_VALUE);
+        Rng rng = new Rng(seed);
+
+        System.out.println(String.format("Raid: %d heroes vs %d level %d monsters, %ds budget (seed %d)",
+                heroCount, monsterCount, monsterLevel, seconds, seed));
+
+        long budget = seconds * 1_000_000_000L;
+        long battleNanos = 0;
+        long totalRounds = 0;
+        long totalActions = 0;
+        int raids = 0;
+        int heroWins = 0;
+        long wallStart = System.nanoTime();
+        while (System.nanoTime() - wallStart < budget) {
+            Battle raid = bench.createRaid(rng.split());
+            long start = System.nanoTime();
+            BattleOutcome outcome = engine.run(raid);
+            battleNanos += System.nanoTime() - start;
+
+            raids++;
+            if (outcome.didHeroesWin()) heroWins++;
+            totalRounds += outcome.getRounds();
+            // every round: each alive hero acts once, each alive monster attacks once (upper bound)
+            totalActions += (long) outcome.getRounds() * (heroCount + monsterCount);
+        }
+
+        double secs = battleNanos / 1e9;
+        System.out.println(String.format("Raids played: %d (heroes won %d)", raids, heroWins));
+        System.out.println(String.format("Rounds: %d in %.2fs of battle time -> %.1f rounds/sec",
+                totalRounds, secs, totalRounds / secs));
+        System.out.println(String.format("Avg rounds per raid: %.1f, up to %.2fM unit actions/sec",
+                (double) totalRounds / raids, totalActions / secs / 1e6));
+    }
+}
@@ -0,0 +1,149 @@
+package sim;
+
+import game.GameContext;
+import game.ValorGameController;
+import characters.Hero;
+import io.InputSource;
+import io.NullView;
+import io.ScriptInput;
+import utils.Rng;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Headless Legends of Valor runner for regression and load tests.
+ *
+ * Replays recorded sessions (game.Main --record) or plays bot games (ValorBot)
+ * through the real game - GameInitializer, GameLoop, CommandProcessor and the
+ * controllers - with a NullView, so nothing is printed or formatted and no
+ * "Press Enter" pauses happen. Games run in parallel on the common pool; one CSV
+ * line per game comes out in input order, so two runs can be diffed.
+ *
+ * A session file is one answer per line, with a "# seed N" header giving the
+ * match seed (other '#' lines are comments).
+ *
+ * Run with: java -cp bin sim.SessionReplay session.txt|dir ...
+ *      or:  java -cp bin sim.SessionReplay --bot [games] [seed] [maxCommands] [mcts]
+ */
+public class SessionReplay {
+    public static final int DEFAULT_BOT_GAMES = 100;
+    public static final int DEFAULT_BOT_COMMANDS = 300;
+    public static final int BOT_DIFFICULTY = 2;
+    public static final int MCTS_ITERATIONS = 100;
+    // session header line for games recorded with game.Main --all-monsters-move
+    public static final String ALL_MONSTERS_MOVE_HEADER = "# all-monsters-move";
+
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        List<String> rows;
+        if (args.length > 0 && args[0].equals("--bot")) {
+            int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BOT_GAMES;
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+            int maxCommands = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_BOT_COMMANDS;
+            boolean mcts = args.length > 4 && args[4].equalsIgnoreCase("mcts");
+            Rng seeds = new Rng(seed);
+            long[] gameSeeds = new long[games];
+            for (int i = 0; i < games; i++) gameSeeds[i] = seeds.nextLong();
+
+            System.err.println(String.format("Playing %d bot games (seed %d)", games, seed));
+            rows = IntStream.range(0, games).parallel()
+                    .mapToObj(i -> play("bot-" + i, gameSeeds[i],
+                            new ValorBot(gameSeeds[i], BOT_DIFFICULTY, maxCommands), mcts))
+                    .collect(Collectors.toList());
+        } else {
+            List<String> files = new ArrayList<>();
+            for (String arg : args) collectSessions(new File(arg), files);
+            System.err.println(String.format("Replaying %d sessions", files.size()));
+            rows = files.parallelStream().map(SessionReplay::replay).collect(Collectors.toList());
+        }
+
+        System.out.println("session,seed,result,rounds,inputs,hero_levels");
+        for (String row : rows) System.out.println(row);
+        System.err.println(String.format("Done %d games in %.2fs", rows.size(), (System.nanoTime() - start) / 1e9));
+    }
+
+    private static void collectSessions(File f, List<String> out) {
+        if (f.isDirectory()) {
+            File[] children = f.listFiles();
+            if (children == null) return;
+            Arrays.sort(children);
+            for (File child : children) collectSessions(child, out);
+        } else {
+            out.add(f.getPath());
+        }
+    }
+
+    // one recorded session -> CSV row
+    public static String replay(String path) {
+        long seed;
+        ScriptInput script;
+        boolean allMonstersMove;
+        try {
+            List<String> lines = Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8);
+            Long header = seedOf(lines);
+            if (header == null) return String.format("%s,,error: no '# seed' header,0,0,", path);
+            seed = header;
+            allMonstersMove = lines.contains(ALL_MONSTERS_MOVE_HEADER);
+            script = ScriptInput.fromFile(path);
+        } catch (IOException e) {
+            return String.format("%s,,error: %s,0,0,", path, e.getMessage());
+        } catch (NumberFormatException e) {
+            return String.format("%s,,error: bad '# seed' header,0,0,", path);
+        }
+        return play(path, seed, script, false, allMonstersMove);
+    }
+
+    private static Long seedOf(List<String> lines) {
+        for (String line : lines) {
+            if (line.startsWith("# seed ")) return Long.parseLong(line.substring(7).trim());
+        }
+        return null;
+    }
+
+    // one full headless game; result is heroes/monsters (who reached the other
+    // Nexus), quit, incomplete (the script ran out) or crash
+    public static String play(String name, long seed, InputSource input, boolean mcts) {
+        return play(name, seed, input, mcts, false);
+    }
+
+    public static String play(String name, long seed, InputSource input, boolean mcts, boolean allMonstersMove) {
+        ValorGameController game = new ValorGameController(new Rng(seed), new NullView(input));
+        game.setAllMonstersMove(allMonstersMove);
+        if (mcts) game.setBattleAutoPilot(new MctsPolicy(seed, MCTS_ITERATIONS, 0, 1));
+        GameContext ctx = game.getContext();
+
+        String result;
+        try {
+            game.initialize();
+            game.run();
+            if (ctx.worldMap.anyHeroAtTopNexus()) result = "heroes";
+            else if (ctx.worldMap.anyMonsterAtBottomNexus()) result = "monsters";
+            else result = "quit";
+        } catch (ScriptInput.OutOfInputException e) {
+            result = "incomplete";
+        } catch (RuntimeException e) {
+            System.err.println(name + ": " + e);
+            result = "crash: " + e.getClass().getSimpleName();
+        }
+
+        int inputs = input instanceof ScriptInput ? ((ScriptInput) input).consumed()
+                : input instanceof ValorBot ? ((ValorBot) input).getCommands() : 0;
+        StringBuilder levels = new StringBuilder();
+        if (ctx.party != null) {
+            for (Hero h : ctx.party) {
+                if (levels.length() > 0) levels.append('/');
+                levels.append(h.getLevel());
+            }
+        }
+        return String.format("%s,%d,%s,%d,%d,%s", name, seed, result, ctx.roundCounter, inputs, levels);
+    }
+}
@@ -0,0 +1,70 @@
+package sim;
+
+import io.InputSource;
+import utils.Rng;
+
+/**
+ * Scripted Legends of Valor player, answering prompts as an InputSource.
+ *
+ * Picks the first heroes offered and the given difficulty, then mostly pushes
+ * the selected hero up its lane (W), with some sideways steps, auto-travel to
+ * the enemy Nexus (G) and hero switches mixed in. In battle it attacks the first
+ * monster. After maxCommands turn commands it quits, and if a game drags on
+ * past ANSWERS_PER_COMMAND answers per command (a battle that won't end) it
+ * quits from the battle menu too, so every game ends.
+ * Prompts it doesn't recognise get "1", which is a valid pick for every menu in
+ * the game. Deterministic for a given seed.
+ *
+ * Meant for load and regression runs (see SessionReplay), not for playing well.
+ */
+public class ValorBot implements InputSource {
+    public static final int ANSWERS_PER_COMMAND = 50;
+
+    private final Rng rng;
+    private final int difficulty;
+    private final int maxCommands;
+    private int commands;
+    private long answers;
+
+    public ValorBot(long seed, int difficulty, int maxCommands) {
+        this.rng = new Rng(seed);
+        this.difficulty = difficulty;
+        this.maxCommands = maxCommands;
+    }
+
+    @Override
+    public String nextLine(String prompt) {
+        String p = prompt.trim();
+        if (++answers > (long) maxCommands * ANSWERS_PER_COMMAND) return giveUp(p);
+        if (p.startsWith("Enter command")) return nextCommand();
+        if (p.startsWith("Difficulty")) return String.valueOf(difficulty);
+        if (p.startsWith("Destination")) return "2"; // auto-travel: the enemy Nexus
+        if (p.startsWith("Your action")) return "1"; // attack
+        if (p.startsWith("Are you sure you want to quit?")) return "y"; // only asked after our own Q
+        if (p.endsWith("(y/n):")) return "n";
+        return "1";
+    }
+
+    // out of patience: quit from wherever the game is
+    private String giveUp(String p) {
+        if (p.startsWith("Your action")) return "0";
+        if (p.startsWith("Enter command")) return "Q";
+        if (p.endsWith("(y/n):")) return "y";
+        return "1";
+    }
+
+    private String nextCommand() {
+        if (++commands > maxCommands) return "Q";
+        int roll = rng.nextInt(10);
+        if (roll < 6) return "W";
+        if (roll == 6) return "A";
+        if (roll == 7) return "D";
+        if (roll == 8) return "G";
+        return String.valueOf(1 + rng.nextInt(3));
+    }
+
+    // turn commands answered so far
+    public int getCommands() {
+        return Math.min(commands, maxCommands);
+    }
+}
@@ -0,0 +1,298 @@
+package sim;
+
+import battle.BasicHeroPolicy;
+import battle.BattleEngine;
+import battle.BattleOutcome;
+import battle.HeroActionPolicy;
+import characters.Hero;
+import characters.Monster;
+import io.DataLoader;
+import utils.Rng;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Monte Carlo balance sweep: estimates the win rate and average battle length
+ * for every party vs monster group matchup (by default single heroes vs
+ * single monster templates).
+ *
+ * Simulations run in waves on a fork/join pool. Each wave adds a batch of
+ * trials to every matchup that hasn't converged yet; a matchup is reported to
+ * the listener as soon as its standard error drops below the target (or it
+ * hits the trial cap), so results stream out while the rest keep running.
+ * The error is computed from a +1 smoothed win rate, so a matchup that has
+ * won (or lost) every trial so far still reports an honest, shrinking error
+ * instead of a flat zero after its first wave.
+ * The sweep's Rng is split down the fork/join tree (each task splits its
+ * stream before forking), so every leaf has its own independent stream, no
+ * random state is shared between threads and a sweep is reproducible.
+ * With the batch kernel enabled, attack-only 1v1 matchups are resolved by
+ * BatchCombatKernel instead of full Battle objects.
+ *
+ * With a party size above 1, each hero is grouped with the next heroes in the
+ * roster (wrapping around) and faces that many copies of each monster template.
+ *
+ * Run with: java -cp bin sim.WinRateEstimator [maxTrials] [targetStdErr] [seed] [kernel|-] [partySize]
+ */
+public class WinRateEstimator {
+    public static final int DEFAULT_MAX_TRIALS = 20000;
+    public static final double DEFAULT_TARGET_STD_ERR = 0.005;
+
+    private static final int TRIALS_PER_TASK = 64;
+    private static final int TASKS_PER_WAVE = 8; // per matchup
+
+    private final List<Matchup> matchups = new ArrayList<>();
+    private final HeroActionPolicy policy;
+    private final ForkJoinPool pool;
+    private final Rng rng;
+    private final int maxTrials;
+    private final double targetStdErr;
+    private boolean useBatchKernel = false;
+
+    public WinRateEstimator(List<? extends Hero> heroes, List<? extends Monster> monsters,
+                            long seed, int maxTrials, double targetStdErr) {
+        this(seed, maxTrials, targetStdErr);
+        for (Hero h : heroes) {
+            for (Monster m : monsters) {
+                matchups.add(new Matchup(Arrays.asList(h), Arrays.asList(m)));
+            }
+        }
+    }
+
+    // every party against every monster group
+    public static WinRateEstimator forParties(List<? extends List<? extends Hero>> parties,
+                                              List<? extends List<? extends Monster>> monsterGroups,
+                                              long seed, int maxTrials, double targetStdErr) {
+        WinRateEstimator estimator = new WinRateEstimator(seed, maxTrials, targetStdErr);
+        for (List<? extends Hero> party : parties) {
+            for (List<? extends Monster> group : monsterGroups) {
+                estimator.matchups.add(new Matchup(new ArrayList<>(party), new ArrayList<>(group)));
+            }
+        }
+        return estimator;
+    }
+
+    private WinRateEstimator(long seed, int maxTrials, double targetStdErr) {
+        this.policy = new BasicHeroPolicy();
+        this.pool = ForkJoinPool.commonPool();
+        this.rng = new Rng(seed);
+        this.maxTrials = maxTrials;
+        this.targetStdErr = targetStdErr;
+    }
+
+    // resolve attack-only matchups with the structure-of-arrays kernel (faster, same odds)
+    public void setUseBatchKernel(boolean useBatchKernel) {
+        this.useBatchKernel = useBatchKernel;
+    }
+
+    public int getMatchupCount() {
+        return matchups.size();
+    }
+
+    // run the sweep, handing each matchup to the listener once its estimate has settled
+    public void run(Consumer<MatchupEstimate> listener) {
+        List<Matchup> active = new ArrayList<>(matchups);
+        while (!active.isEmpty()) {
+            pool.invoke(new WaveTask(active, rng.split(), 0, active.size() * TASKS_PER_WAVE));
+
+            Iterator<Matchup> it = active.iterator();
+            while (it.hasNext()) {
+                MatchupEstimate est = it.next().estimate();
+                boolean converged = est.getStdErr() <= targetStdErr;
+                if (converged || est.getTrials() >= maxTrials) {
+                    listener.accept(est);
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    // run one batch of trials for a matchup with its own random source
+    private void simulate(Matchup matchup, Rng random, int trials) {
+        if (useBatchKernel && matchup.isOneOnOne() && BatchCombatKernel.supports(matchup.party.get(0))) {
+            simulateBatch(matchup, random, trials);
+            return;
+        }
+        BattleEngine engine = new BattleEngine(policy);
+        long wins = 0;
+        long rounds = 0;
+        for (int i = 0; i < trials; i++) {
+            List<Hero> party = new ArrayList<>(matchup.party.size());
+            for (Hero h : matchup.party) party.add(Combatants.copyHero(h));
+            List<Monster> monsters = new ArrayList<>(matchup.monsters.size());
+            for (Monster m : matchup.monsters) monsters.add(Combatants.copyMonster(m));
+            BattleOutcome outcome = engine.run(party, monsters, random);
+            if (outcome.didHeroesWin()) wins++;
+            rounds += outcome.getRounds();
+        }
+        matchup.record(trials, wins, rounds);
+    }
+
+    // same as simulate, but every trial is a lane of one BatchCombatKernel
+    private void simulateBatch(Matchup matchup, Rng random, int trials) {
+        BatchCombatKernel kernel = new BatchCombatKernel(trials);
+        kernel.loadCopies(matchup.party.get(0), matchup.monsters.get(0), trials);
+        kernel.resolve(random, BattleEngine.DEFAULT_MAX_ROUNDS);
+        long wins = 0;
+        long rounds = 0;
+        for (int i = 0; i < trials; i++) {
+            if (kernel.heroWon(i)) wins++;
+            rounds += kernel.getRounds(i);
+        }
+        matchup.record(trials, wins, rounds);
+    }
+
+    // splits the (matchup x task) index space of one wave across the pool
+    private class WaveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Matchup> active;
+        private final Rng random;
+        private final int from;
+        private final int to;
+
+        WaveTask(List<Matchup> active, Rng random, int from, int to) {
+            this.active = active;
+            this.random = random;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                simulate(active.get(from / TASKS_PER_WAVE), random, TRIALS_PER_TASK);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            // split before forking so both halves get their own deterministic stream
+            Rng left = random.split();
+            invokeAll(new WaveTask(active, left, from, mid), new WaveTask(active, random, mid, to));
+        }
+    }
+
+    // running totals for one party/monster group pairing (updated concurrently by leaf tasks)
+    private static class Matchup {
+        private final List<Hero> party;
+        private final List<Monster> monsters;
+        private final AtomicLong trials = new AtomicLong();
+        private final AtomicLong wins = new AtomicLong();
+        private final AtomicLong rounds = new AtomicLong();
+
+        Matchup(List<Hero> party, List<Monster> monsters) {
+            this.party = party;
+            this.monsters = monsters;
+        }
+
+        boolean isOneOnOne() {
+            return party.size() == 1 && monsters.size() == 1;
+        }
+
+        void record(long t, long w, long r) {
+            wins.addAndGet(w);
+            rounds.addAndGet(r);
+            trials.addAndGet(t);
+        }
+
+        MatchupEstimate estimate() {
+            long n = trials.get();
+            double p = n == 0 ? 0 : (double) wins.get() / n;
+            // +1 smoothing: with 0 or n wins the plain p(1-p)/n would be exactly 0
+            double smoothed = (wins.get() + 1.0) / (n + 2);
+            double stdErr = Math.sqrt(smoothed * (1 - smoothed) / (n + 2));
+            double avgRounds = n == 0 ? 0 : (double) rounds.get() / n;
+            return new MatchupEstimate(names(party), names(monsters), n, p, stdErr, avgRounds);
+        }
+
+        private static String names(List<? extends characters.Character> members) {
+            StringBuilder sb = new StringBuilder();
+            for (characters.Character c : members) {
+                if (sb.length() > 0) sb.append('+');
+                sb.append(c.getName());
+            }
+            return sb.toString();
+        }
+    }
+
+    // snapshot of a matchup's estimate handed to listeners
+    public static class MatchupEstimate {
+        private final String heroName;
+        private final String monsterName;
+        private final long trials;
+        private final double winRate;
+        private final double stdErr;
+        private final double avgRounds;
+
+        public MatchupEstimate(String heroName, String monsterName, long trials,
+                               double winRate, double stdErr, double avgRounds) {
+            this.heroName = heroName;
+            this.monsterName = monsterName;
+            this.trials = trials;
+            this.winRate = winRate;
+            this.stdErr = stdErr;
+            this.avgRounds = avgRounds;
+        }
+
+        public String getHeroName() { return heroName; }
+        public String getMonsterName() { return monsterName; }
+        public long getTrials() { return trials; }
+        public double getWinRate() { return winRate; }
+        public double getStdErr() { return stdErr; }
+        public double getAvgRounds() { return avgRounds; }
+
+        public String toCsv() {
+            return String.format("%s,%s,%d,%.4f,%.4f,%.2f",
+                    heroName, monsterName, trials, winRate, stdErr, avgRounds);
+        }
+    }
+
+    public static void main(String[] args) {
+        int maxTrials = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MAX_TRIALS;
+        double target = args.length > 1 ? Double.parseDouble(args[1]) : DEFAULT_TARGET_STD_ERR;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        boolean kernel = args.length > 3 && args[3].equalsIgnoreCase("kernel");
+        int partySize = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+        List<Hero> heroes = new ArrayList<>();
+        heroes.addAll(DataLoader.loadWarriors("Warriors.txt"));
+        heroes.addAll(DataLoader.loadSorcerers("Sorcerers.txt"));
+        heroes.addAll(DataLoader.loadPaladins("Paladins.txt"));
+
+        List<Monster> monsters = new ArrayList<>();
+        monsters.addAll(DataLoader.loadDragons("Dragons.txt"));
+        monsters.addAll(DataLoader.loadExoskeletons("Exoskeletons.txt"));
+        monsters.addAll(DataLoader.loadSpirits("Spirits.txt"));
+
+        WinRateEstimator estimator;
+        if (partySize <= 1) {
+            estimator = new WinRateEstimator(heroes, monsters, seed, maxTrials, target);
+        } else {
+            int size = Math.min(partySize, heroes.size());
+            List<List<Hero>> parties = new ArrayList<>();
+            for (int i = 0; i < heroes.size(); i++) {
+                List<Hero> party = new ArrayList<>();
+                for (int j = 0; j < size; j++) party.add(heroes.get((i + j) % heroes.size()));
+                parties.add(party);
+            }
+            List<List<Monster>> groups = new ArrayList<>();
+            for (Monster m : monsters) groups.add(new ArrayList<>(Collections.nCopies(size, m)));
+            estimator = WinRateEstimator.forParties(parties, groups, seed, maxTrials, target);
+        }
+        estimator.setUseBatchKernel(kernel);
+        System.err.println(String.format("Sweeping %d matchups on %d threads (seed %d)",
+                estimator.getMatchupCount(), ForkJoinPool.getCommonPoolParallelism(), seed));
+
+        long start = System.nanoTime();
+        System.out.println("hero,monster,trials,win_rate,std_err,avg_rounds");
+        estimator.run(est -> System.out.println(est.toCsv()));
+        System.err.println(String.format("Done in %.1fs", (System.nanoTime() - start) / 1e9));
+    }
+}
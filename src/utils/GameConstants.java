@@ -6,6 +6,13 @@ public class GameConstants {
     
     // World Configuration
     public static final int WORLD_SIZE = 8;
+    public static final boolean CLASSIC_WORLD_UNBOUNDED = false; // endless classic world instead of WORLD_SIZE
+    public static final int WORLD_VIEW_SIZE = 9; // bigger classic worlds are shown as a window this big
+    public static final int VALOR_LANE_COUNT = 3; // lanes on the Valor board (walls between them)
+    public static final int VALOR_VIEW_SIZE = 16; // larger Valor boards are shown as a window this big
+    public static final int ENGAGE_RADIUS = 1; // Valor battles start when a monster is this close (rows and columns)
+    public static final int AUTO_TRAVEL_MAX_STEPS = 20; // steps one G (auto-travel) command may take
+    public static final boolean ASYNC_CONSOLE_OUTPUT = false; // write console frames from a background thread
     public static final double COMMON_TILE_BATTLE_CHANCE = 0.4;
     public static final double INACCESSIBLE_TILE_RATIO = 0.2;
     public static final double MARKET_TILE_RATIO = 0.3;
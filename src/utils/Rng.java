@@ -0,0 +1,69 @@
+package utils;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Random number source for one game or one simulation
+// Wraps SplittableRandom so every match/battle/worker can get its own independent
+// stream via split() instead of sharing Math.random() or a common Random.
+// The same seed always produces the same sequence (and the same splits).
+// Not thread-safe: give each thread its own split.
+public final class Rng {
+    private final SplittableRandom random;
+
+    // seeded source - use this when a run needs to be reproducible
+    public Rng(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    // unseeded source for normal interactive play
+    public Rng() {
+        this.random = new SplittableRandom();
+    }
+
+    private Rng(SplittableRandom random) {
+        this.random = random;
+    }
+
+    // new independent stream; deterministic given this generator's state
+    public Rng split() {
+        return new Rng(random.split());
+    }
+
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    // uniform int in [0, bound)
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    // Fisher-Yates shuffle (same contract as Collections.shuffle)
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T tmp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, tmp);
+        }
+    }
+
+    // same shuffle over a primitive array (consumes the same random draws as the List version)
+    public void shuffle(int[] a) {
+        for (int i = a.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+    }
+}
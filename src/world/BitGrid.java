@@ -0,0 +1,130 @@
+package world;
+
+// Fixed-size set of board cells stored as bits (bit index = row * cols + col)
+// An 8x8 board fits in a single long, so the usual queries (is anything in this
+// lane between these rows, does any hero stand on the top nexus, ...) are a
+// couple of ANDs. Larger boards just use more words.
+// The number of set bits is kept per block of BLOCK_WORDS words, so counting,
+// emptiness and picking the n-th cell stay cheap on very large boards too.
+public class BitGrid {
+    private static final int BLOCK_SHIFT = 6; // 64 words (4096 cells) per block
+    private static final int BLOCK_WORDS = 1 << BLOCK_SHIFT;
+
+    private final int cols;
+    private final long[] words;
+    private final int[] blockCounts;
+    private int count;
+
+    public BitGrid(int rows, int cols) {
+        this.cols = cols;
+        this.words = new long[(rows * cols + 63) >>> 6];
+        this.blockCounts = new int[(words.length + BLOCK_WORDS - 1) >>> BLOCK_SHIFT];
+    }
+
+    public boolean get(int row, int col) {
+        return get(row * cols + col);
+    }
+
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void set(int row, int col) {
+        set(row * cols + col);
+    }
+
+    public void set(int index) {
+        int i = index >>> 6;
+        long bit = 1L << index;
+        if ((words[i] & bit) != 0) return;
+        words[i] |= bit;
+        blockCounts[i >>> BLOCK_SHIFT]++;
+        count++;
+    }
+
+    public void clear(int row, int col) {
+        clear(row * cols + col);
+    }
+
+    public void clear(int index) {
+        int i = index >>> 6;
+        long bit = 1L << index;
+        if ((words[i] & bit) == 0) return;
+        words[i] &= ~bit;
+        blockCounts[i >>> BLOCK_SHIFT]--;
+        count--;
+    }
+
+    public void set(int index, boolean value) {
+        if (value) set(index);
+        else clear(index);
+    }
+
+    public void clearAll() {
+        java.util.Arrays.fill(words, 0L);
+        java.util.Arrays.fill(blockCounts, 0);
+        count = 0;
+    }
+
+    // set every cell of a row range [fromRow, toRow) in the given column
+    public void setColumn(int col, int fromRow, int toRow) {
+        for (int r = fromRow; r < toRow; r++) set(r, col);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int cardinality() {
+        return count;
+    }
+
+    // true if some cell with index in [from, to) is in both this and mask
+    // (whole rows r0..r1-1 are the index range [r0 * cols, r1 * cols))
+    public boolean intersectsInRange(BitGrid mask, int from, int to) {
+        if (from >= to) return false;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        for (int i = first; i <= last; i++) {
+            long w = words[i] & mask.words[i];
+            if (i == first) w &= -1L << from;
+            if (i == last) w &= -1L >>> (63 - ((to - 1) & 63));
+            if (w != 0) return true;
+        }
+        return false;
+    }
+
+    // index of the first set bit at or after from, or -1
+    public int nextSetBit(int from) {
+        int i = from >>> 6;
+        if (i >= words.length) return -1;
+        long w = words[i] & (-1L << from);
+        while (true) {
+            if (w != 0) return (i << 6) + Long.numberOfTrailingZeros(w);
+            if (++i == words.length) return -1;
+            w = words[i];
+        }
+    }
+
+    // index of the n-th set bit (0-based, row-major order), or -1
+    // skips whole blocks by their counts, then walks the words of one block
+    public int nthSetBit(int n) {
+        if (n < 0 || n >= count) return -1;
+        int block = 0;
+        while (n >= blockCounts[block]) {
+            n -= blockCounts[block++];
+        }
+        int end = Math.min(words.length, (block + 1) << BLOCK_SHIFT);
+        for (int i = block << BLOCK_SHIFT; i < end; i++) {
+            long w = words[i];
+            int count = Long.bitCount(w);
+            if (n >= count) {
+                n -= count;
+                continue;
+            }
+            for (int k = 0; k < n; k++) w &= w - 1; // drop the lowest bits
+            return (i << 6) + Long.numberOfTrailingZeros(w);
+        }
+        return -1;
+    }
+}
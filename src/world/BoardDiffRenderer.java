@@ -0,0 +1,95 @@
+package world;
+
+// Incremental terminal renderer for a ValorWorldMap
+// The first frame clears the screen, draws the whole board and legend at the
+// top, and sets a scroll region below it (ESC[top r) so game messages scroll
+// underneath without moving the board. Every later frame only rewrites the
+// cells the map reports as changed: save cursor (ESC 7), jump to each cell
+// (ESC[row;colH), print its 6-character glyph, restore cursor (ESC 8). Output
+// size and work per frame scale with the number of changed cells, not the
+// board area. GlyphAtlas squeezes shared cells into 6 columns whenever the ids
+// allow (up to H9 with M9999); a glyph that is still wider (e.g. "H10/M100")
+// would shift the rest of its row, so such frames (and the next one, which has
+// to undo the shift) fall back to a full redraw.
+// Needs an ANSI/VT100 terminal; call reset() before leaving so the terminal
+// scrolls normally again.
+public class BoardDiffRenderer {
+    private static final String ESC = "\u001B";
+    private static final int CELL_WIDTH = GlyphAtlas.CELL_WIDTH + 1; // glyph + '|'
+
+    private final ValorWorldMap map;
+    private int[] changed = new int[64];
+    private final StringBuilder frame = new StringBuilder(256);
+    private int boardLines;
+    private boolean started;
+    // last full frame had an over-wide glyph, so the screen columns don't match the cells
+    private boolean misaligned;
+
+    public BoardDiffRenderer(ValorWorldMap map) {
+        this.map = map;
+        map.setDirtyTracking(true);
+    }
+
+    public ValorWorldMap getMap() {
+        return map;
+    }
+
+    // escape sequences that bring the screen up to date (empty if nothing changed)
+    public String nextFrame() {
+        if (!started) return fullFrame();
+
+        int pending = map.getDirtyCount();
+        if (pending == 0) return "";
+        if (misaligned) return fullFrame();
+        if (changed.length < pending) changed = new int[Math.max(pending, changed.length * 2)];
+        int n = map.drainDirtyCells(changed);
+
+        int size = map.getSize();
+        StringBuilder sb = frame;
+        sb.setLength(0);
+        sb.append(ESC).append('7');
+        for (int i = 0; i < n; i++) {
+            int r = changed[i] / size;
+            int c = changed[i] % size;
+            Cell cell = map.getCellAt(Position.of(r, c));
+            if (cell.shortWidth() != GlyphAtlas.CELL_WIDTH) return fullFrame();
+            // 1-based screen position: line 1 is the top border, row r is line 2 + 2r;
+            // column 1 is the left '|', so cell c starts at column 2 + 7c
+            sb.append(ESC).append('[').append(2 + 2 * r).append(';').append(2 + CELL_WIDTH * c).append('H');
+            cell.appendShort(sb);
+        }
+        sb.append(ESC).append('8');
+        return sb.toString();
+    }
+
+    // redraw everything on the next frame (e.g. after something else cleared the screen)
+    public void invalidate() {
+        started = false;
+    }
+
+    // put the terminal back to normal scrolling
+    public String reset() {
+        started = false;
+        return ESC + "[r";
+    }
+
+    private String fullFrame() {
+        map.setDirtyTracking(true); // forget changes the full redraw already covers
+        String board = map.render();
+        boardLines = 0;
+        for (int i = 0; i < board.length(); i++) {
+            if (board.charAt(i) == '\n') boardLines++;
+        }
+        started = true;
+        int size = map.getSize();
+        misaligned = false;
+        for (int i = 0; i < size * size && !misaligned; i++) {
+            misaligned = map.getCellAt(Position.of(i / size, i % size)).shortWidth() != GlyphAtlas.CELL_WIDTH;
+        }
+
+        // clear, home, board, then scroll only the lines below it and park the cursor there
+        return ESC + "[2J" + ESC + "[H" + board
+                + ESC + "[" + (boardLines + 1) + "r"
+                + ESC + "[" + (boardLines + 1) + ";1H";
+    }
+}
@@ -2,7 +2,6 @@ package world;
 
 import characters.Hero;
 import characters.Monster;
-import utils.AnsiColor;
 
 // Single board cell that can hold at most one hero and one monster (co-occupancy allowed)
 public class Cell {
@@ -92,45 +91,39 @@ public class Cell {
     // Simple textual rendering used by WorldMap.render()
     // Aim for compact but informative output like: " . ", " O ", "H1", "M2", "H1/M2"
     public String renderShort() {
+        StringBuilder sb = new StringBuilder(24);
+        appendShort(sb);
+        return sb.toString();
+    }
+
+    // same glyph as renderShort(), appended straight from the GlyphAtlas (no allocation
+    // once the ids have been seen and sb has room)
+    public void appendShort(StringBuilder sb) {
         // Occupancy display
         if (hasHero() && hasMonster()) {
-            String h = heroId != null ? heroId : shortHeroId(hero);
-            String m = monsterId != null ? monsterId : shortMonsterId(monster);
             // Hero (green) / Monster (red)
-            String hs = AnsiColor.colorize(padCenter(h,3), AnsiColor.GREEN);
-            String ms = AnsiColor.colorize(padCenter(m,3), AnsiColor.RED);
-            return String.format("%s/%s", hs, ms);
-        }
-        if (hasHero()) {
-            String h = heroId != null ? heroId : shortHeroId(hero);
-            return AnsiColor.colorize(padCenter(h,6), AnsiColor.GREEN);
-        }
-        if (hasMonster()) {
-            String m = monsterId != null ? monsterId : shortMonsterId(monster);
-            return AnsiColor.colorize(padCenter(m,6), AnsiColor.RED);
+            sb.append(GlyphAtlas.shared(displayHeroId(), displayMonsterId()));
+        } else if (hasHero()) {
+            sb.append(GlyphAtlas.hero(displayHeroId()));
+        } else if (hasMonster()) {
+            sb.append(GlyphAtlas.monster(displayMonsterId()));
+        } else {
+            // No occupants: render by cell type
+            sb.append(GlyphAtlas.terrain(type));
         }
+    }
 
-        // No occupants: render by cell type
-        String sym = String.valueOf(type.getSymbol());
-        switch (type) {
-            case NEXUS:
-                return AnsiColor.colorize(padCenter(sym,6), AnsiColor.YELLOW);
-            case INACCESSIBLE:
-                return AnsiColor.colorize(padCenter(sym,6), AnsiColor.WHITE);
-            case OBSTACLE:
-                return AnsiColor.colorize(padCenter(sym,6), AnsiColor.RED);
-            case BUSH:
-                return AnsiColor.colorize(padCenter(sym,6), AnsiColor.GREEN);
-            case CAVE:
-                return AnsiColor.colorize(padCenter(sym,6), AnsiColor.CYAN);
-            case KOULOU:
-                return AnsiColor.colorize(padCenter(sym,6), AnsiColor.MAGENTA);
-            case MARKET:
-                return AnsiColor.colorize(padCenter(sym,6), AnsiColor.BLUE);
-            case PLAIN:
-            default:
-                return padCenter(sym,6);
-        }
+    // printed width of the glyph (6, unless an id is too long to fit)
+    public int shortWidth() {
+        return GlyphAtlas.width(hasHero() ? displayHeroId() : null, hasMonster() ? displayMonsterId() : null);
+    }
+
+    private String displayHeroId() {
+        return heroId != null ? heroId : shortHeroId(hero);
+    }
+
+    private String displayMonsterId() {
+        return monsterId != null ? monsterId : shortMonsterId(monster);
     }
 
     private String shortHeroId(Hero h) {
@@ -142,16 +135,4 @@ public class Cell {
         if (m == null) return "M?";
         return "M" + Math.max(1, m.getLevel());
     }
-
-    private static String padCenter(String s, int width) {
-        if (s.length() >= width) return s;
-        int total = width - s.length();
-        int left = total/2;
-        int right = total - left;
-        StringBuilder sb = new StringBuilder();
-        for (int i=0;i<left;i++) sb.append(' ');
-        sb.append(s);
-        for (int i=0;i<right;i++) sb.append(' ');
-        return sb.toString();
-    }
 }
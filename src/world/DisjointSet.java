@@ -0,0 +1,46 @@
+package world;
+
+// Union-find over the ints 0..n-1 (union by size, path halving)
+// Used to check board connectivity in one near-linear pass instead of a search
+// per lane: union every pair of neighbouring open cells, then ask whether two
+// cells ended up in the same set.
+public class DisjointSet {
+    private final int[] parent;
+    private final int[] setSize;
+
+    public DisjointSet(int n) {
+        this.parent = new int[n];
+        this.setSize = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            setSize[i] = 1;
+        }
+    }
+
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]]; // path halving
+            x = parent[x];
+        }
+        return x;
+    }
+
+    // merge the sets of a and b; false if they were already together
+    public boolean union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) return false;
+        if (setSize[ra] < setSize[rb]) {
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        parent[rb] = ra;
+        setSize[ra] += setSize[rb];
+        return true;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+}
@@ -0,0 +1,114 @@
+package world;
+
+import utils.AnsiColor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Precomputed board glyphs for Cell rendering
+// Every glyph a Valor cell can show - each terrain type, a lone hero or monster id,
+// or a shared hero/monster cell - is padded and colourised once and
+// kept as a String. Rendering a cell is then a single StringBuilder.append of an
+// existing String: no padding, no colour concatenation, no new Strings per frame.
+// Terrain glyphs are built up front; id glyphs on first sight of each id (ids
+// come from a small set such as H1-H3, M1, M2, ...).
+// A shared cell is normally "H1 /M3"; longer monster ids take the hero half's
+// padding ("H1/M12") and, if that's not enough, the '/' ("H1M123"), so the cell
+// stays CELL_WIDTH wide and BoardDiffRenderer can keep drawing changes in place.
+public final class GlyphAtlas {
+    public static final int CELL_WIDTH = 6;
+    // shared cell: hero half + '/' + monster half = CELL_WIDTH (when the ids allow)
+    private static final int MONSTER_HALF = 2;
+
+    private static final String[] TERRAIN = new String[CellType.values().length];
+    private static final Map<String, String> HERO = new ConcurrentHashMap<>();
+    private static final Map<String, String> MONSTER = new ConcurrentHashMap<>();
+    // hero id -> monster id -> shared glyph
+    private static final Map<String, Map<String, String>> SHARED = new ConcurrentHashMap<>();
+
+    static {
+        for (CellType type : CellType.values()) {
+            TERRAIN[type.ordinal()] = glyph(String.valueOf(type.getSymbol()), CELL_WIDTH, colorOf(type));
+        }
+    }
+
+    private GlyphAtlas() {}
+
+    public static String terrain(CellType type) {
+        return TERRAIN[type.ordinal()];
+    }
+
+    public static String hero(String id) {
+        return HERO.computeIfAbsent(id, k -> glyph(k, CELL_WIDTH, AnsiColor.GREEN));
+    }
+
+    public static String monster(String id) {
+        return MONSTER.computeIfAbsent(id, k -> glyph(k, CELL_WIDTH, AnsiColor.RED));
+    }
+
+    // a cell holding both a hero and a monster, drawn as hero/monster
+    public static String shared(String heroId, String monsterId) {
+        Map<String, String> byMonster = SHARED.get(heroId);
+        if (byMonster == null) byMonster = SHARED.computeIfAbsent(heroId, k -> new ConcurrentHashMap<>());
+        String glyph = byMonster.get(monsterId);
+        if (glyph == null) glyph = byMonster.computeIfAbsent(monsterId, k -> sharedGlyph(heroId, k));
+        return glyph;
+    }
+
+    // printed width of a cell's glyph: CELL_WIDTH unless the ids are too long to fit
+    public static int width(String heroId, String monsterId) {
+        if (heroId != null && monsterId != null) {
+            int ids = heroId.length() + monsterId.length();
+            return ids <= CELL_WIDTH ? CELL_WIDTH : ids + 1;
+        }
+        String id = heroId != null ? heroId : monsterId;
+        return id == null ? CELL_WIDTH : Math.max(CELL_WIDTH, id.length());
+    }
+
+    private static String sharedGlyph(String heroId, String monsterId) {
+        int ids = heroId.length() + monsterId.length();
+        String hero;
+        String monster;
+        String separator = "/";
+        if (ids < CELL_WIDTH) {
+            int monsterHalf = Math.min(Math.max(MONSTER_HALF, monsterId.length()), CELL_WIDTH - 1 - heroId.length());
+            hero = padCenter(heroId, CELL_WIDTH - 1 - monsterHalf);
+            monster = padCenter(monsterId, monsterHalf);
+        } else {
+            hero = heroId;
+            monster = monsterId;
+            if (ids == CELL_WIDTH) separator = ""; // ids alone fill the cell
+        }
+        return AnsiColor.colorize(hero, AnsiColor.GREEN) + separator + AnsiColor.colorize(monster, AnsiColor.RED);
+    }
+
+    private static String colorOf(CellType type) {
+        switch (type) {
+            case NEXUS: return AnsiColor.YELLOW;
+            case INACCESSIBLE: return AnsiColor.WHITE;
+            case OBSTACLE: return AnsiColor.RED;
+            case BUSH: return AnsiColor.GREEN;
+            case CAVE: return AnsiColor.CYAN;
+            case KOULOU: return AnsiColor.MAGENTA;
+            case MARKET: return AnsiColor.BLUE;
+            case PLAIN:
+            default: return null;
+        }
+    }
+
+    private static String glyph(String text, int width, String color) {
+        return AnsiColor.colorize(padCenter(text, width), color);
+    }
+
+    private static String padCenter(String s, int width) {
+        if (s.length() >= width) return s;
+        int total = width - s.length();
+        int left = total/2;
+        int right = total - left;
+        StringBuilder sb = new StringBuilder();
+        for (int i=0;i<left;i++) sb.append(' ');
+        sb.append(s);
+        for (int i=0;i<right;i++) sb.append(' ');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,314 @@
+package world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// A* over a PathGraph (4-way moves, unit cost, Manhattan heuristic)
+// Finds the shortest legal route from a start cell to a goal, or to the nearest
+// of several goals (nearest market, any enemy nexus cell, ...).
+//
+// Results are cached per (start, goals). A cached path (or "unreachable") is reused
+// only while the graph's terrain and occupancy versions are both unchanged, i.e. it
+// is exactly what a new search would return; anything else is searched again.
+// Callers that query the same goals repeatedly build a Goals key once (goals(...))
+// so lookups don't copy or rehash the goal list.
+//
+// Search arrays are allocated once and reused (stamped per search instead of
+// cleared). Unbounded graphs are searched within MAX_SEARCH_RADIUS of the start.
+// Not thread-safe: give each bot/thread its own PathFinder.
+public class PathFinder {
+    public static final int MAX_SEARCH_RADIUS = 64;
+
+    private static final int CACHE_CAPACITY = 1024;
+    // with more goals than this the heuristic is 0 (plain Dijkstra) - cheaper than
+    // taking the minimum over every goal at every node
+    private static final int HEURISTIC_GOAL_LIMIT = 32;
+
+    private final PathGraph graph;
+
+    // search window (the whole board, or a square around the start if unbounded)
+    private int top;
+    private int left;
+    private int width;
+
+    // per-node scratch, valid where seen[node] == epoch
+    private int[] seen = new int[0];
+    private int[] goalMark = new int[0];
+    private int[] cost = new int[0];
+    private int[] parent = new int[0];
+    private int epoch;
+
+    // binary min-heap of nodes keyed by f = g + h
+    private int[] heapNode = new int[16];
+    private int[] heapKey = new int[16];
+    private int heapSize;
+
+    private final Map<CacheKey, CachedPath> cache =
+            new LinkedHashMap<CacheKey, CachedPath>(CACHE_CAPACITY * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedPath> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+    private long cacheHits;
+    private long searches;
+
+    public PathFinder(PathGraph graph) {
+        this.graph = graph;
+    }
+
+    // cache key for a goal set: copies the goals and hashes them once
+    public static Goals goals(Collection<Position> goals) {
+        return new Goals(new ArrayList<>(goals));
+    }
+
+    // path from 'from' to 'goal'; see findPathToNearest
+    public List<Position> findPath(Position from, Position goal) {
+        return findPathToNearest(from, new Goals(Collections.singletonList(goal)));
+    }
+
+    // one-off query; callers repeating the same goals should keep a Goals key instead
+    public List<Position> findPathToNearest(Position from, Collection<Position> goals) {
+        return findPathToNearest(from, goals(goals));
+    }
+
+    // shortest path from 'from' to whichever goal is nearest: the cells to step on in
+    // order, ending on the goal (empty if 'from' is a goal), or null if none is reachable
+    public List<Position> findPathToNearest(Position from, Goals goals) {
+        if (from == null || goals.list.isEmpty()) return null;
+        CacheKey key = new CacheKey(from, goals);
+        long terrain = graph.getTerrainVersion();
+        long occupancy = graph.getOccupancyVersion();
+
+        CachedPath cached = cache.get(key);
+        if (cached != null && cached.terrainVersion == terrain && cached.occupancyVersion == occupancy) {
+            cacheHits++;
+            return cached.path;
+        }
+
+        searches++;
+        List<Position> path = search(from, goals.list);
+        cache.put(key, new CachedPath(terrain, occupancy, path));
+        return path;
+    }
+
+    public PathGraph getGraph() {
+        return graph;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getSearches() {
+        return searches;
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private List<Position> search(Position from, List<Position> goals) {
+        int size = graph.getSize();
+        if (size > 0) {
+            top = 0;
+            left = 0;
+            width = size;
+        } else {
+            top = from.getRow() - MAX_SEARCH_RADIUS;
+            left = from.getCol() - MAX_SEARCH_RADIUS;
+            width = 2 * MAX_SEARCH_RADIUS + 1;
+        }
+        if (!inWindow(from.getRow(), from.getCol())) return null;
+        prepare(width * width);
+
+        // mark goals inside the window; keep a few for the heuristic
+        int goalCount = 0;
+        int[] hRows = new int[Math.min(goals.size(), HEURISTIC_GOAL_LIMIT)];
+        int[] hCols = new int[hRows.length];
+        for (Position g : goals) {
+            if (g == null || !inWindow(g.getRow(), g.getCol())) continue;
+            goalMark[node(g.getRow(), g.getCol())] = epoch;
+            if (goalCount < hRows.length) {
+                hRows[goalCount] = g.getRow();
+                hCols[goalCount] = g.getCol();
+            }
+            goalCount++;
+        }
+        if (goalCount == 0) return null;
+        int hGoals = goalCount <= HEURISTIC_GOAL_LIMIT ? goalCount : 0;
+
+        int start = node(from.getRow(), from.getCol());
+        seen[start] = epoch;
+        cost[start] = 0;
+        parent[start] = -1;
+        heapSize = 0;
+        push(start, heuristic(from.getRow(), from.getCol(), hRows, hCols, hGoals));
+
+        while (heapSize > 0) {
+            int key = heapKey[0];
+            int cur = pop();
+            int r = top + cur / width;
+            int c = left + cur % width;
+            if (key - heuristic(r, c, hRows, hCols, hGoals) > cost[cur]) continue; // stale entry
+            if (goalMark[cur] == epoch) return buildPath(cur);
+
+            int nextCost = cost[cur] + 1;
+            for (int k = 0; k < 4; k++) {
+                int nr = r + (k == 0 ? -1 : k == 1 ? 1 : 0); // up, down, left, right
+                int nc = c + (k == 2 ? -1 : k == 3 ? 1 : 0);
+                if (!inWindow(nr, nc)) continue;
+                int next = node(nr, nc);
+                if (seen[next] == epoch && cost[next] <= nextCost) continue;
+                if (!graph.canStep(r, c, nr, nc)) continue;
+                seen[next] = epoch;
+                cost[next] = nextCost;
+                parent[next] = cur;
+                push(next, nextCost + heuristic(nr, nc, hRows, hCols, hGoals));
+            }
+        }
+        return null;
+    }
+
+    private List<Position> buildPath(int goal) {
+        Position[] steps = new Position[cost[goal]];
+        for (int n = goal, i = steps.length - 1; i >= 0; n = parent[n], i--) {
+            steps[i] = Position.of(top + n / width, left + n % width);
+        }
+        return Collections.unmodifiableList(Arrays.asList(steps));
+    }
+
+    private static int heuristic(int r, int c, int[] rows, int[] cols, int n) {
+        int best = n == 0 ? 0 : Integer.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            best = Math.min(best, Math.abs(r - rows[i]) + Math.abs(c - cols[i]));
+        }
+        return best;
+    }
+
+    private boolean inWindow(int r, int c) {
+        return r >= top && r < top + width && c >= left && c < left + width;
+    }
+
+    private int node(int r, int c) {
+        return (r - top) * width + (c - left);
+    }
+
+    // new search: grow the scratch arrays if needed, otherwise just move to a fresh stamp
+    private void prepare(int nodes) {
+        if (seen.length < nodes) {
+            seen = new int[nodes];
+            goalMark = new int[nodes];
+            cost = new int[nodes];
+            parent = new int[nodes];
+            epoch = 0;
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(goalMark, 0);
+            epoch = 1;
+        }
+    }
+
+    private void push(int node, int key) {
+        if (heapSize == heapNode.length) {
+            heapNode = Arrays.copyOf(heapNode, heapSize * 2);
+            heapKey = Arrays.copyOf(heapKey, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heapKey[p] <= key) break;
+            heapNode[i] = heapNode[p];
+            heapKey[i] = heapKey[p];
+            i = p;
+        }
+        heapNode[i] = node;
+        heapKey[i] = key;
+    }
+
+    private int pop() {
+        int first = heapNode[0];
+        int lastNode = heapNode[--heapSize];
+        int lastKey = heapKey[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child]) child++;
+            if (heapKey[child] >= lastKey) break;
+            heapNode[i] = heapNode[child];
+            heapKey[i] = heapKey[child];
+            i = child;
+        }
+        heapNode[i] = lastNode;
+        heapKey[i] = lastKey;
+        return first;
+    }
+
+    // an immutable goal list with its hash computed up front
+    public static final class Goals {
+        private final List<Position> list;
+        private final int hash;
+
+        private Goals(List<Position> list) {
+            this.list = list;
+            this.hash = list.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Goals)) return false;
+            Goals other = (Goals) obj;
+            return hash == other.hash && list.equals(other.list);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class CacheKey {
+        final Position from;
+        final Goals goals;
+        final int hash;
+
+        CacheKey(Position from, Goals goals) {
+            this.from = from;
+            this.goals = goals;
+            this.hash = 31 * from.hashCode() + goals.hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof CacheKey)) return false;
+            CacheKey other = (CacheKey) obj;
+            return hash == other.hash && from.equals(other.from) && goals.equals(other.goals);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class CachedPath {
+        final long terrainVersion;
+        final long occupancyVersion;
+        final List<Position> path;
+
+        CachedPath(long terrainVersion, long occupancyVersion, List<Position> path) {
+            this.terrainVersion = terrainVersion;
+            this.occupancyVersion = occupancyVersion;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package world;
+
+// A board PathFinder can search: which single orthogonal steps are legal right now
+// Implemented by the classic WorldMap (party movement) and ValorWorldMap (hero
+// movement, with occupancy and lane blocking rules).
+public interface PathGraph {
+    // side length of the (square) board, or 0 if it has no edges
+    int getSize();
+
+    // whether the mover may step from (fromRow, fromCol) to the orthogonal
+    // neighbour (toRow, toCol) under the current terrain and occupancy
+    boolean canStep(int fromRow, int fromCol, int toRow, int toCol);
+
+    // changes whenever terrain changes; cached paths from an older version are dropped
+    long getTerrainVersion();
+
+    // changes whenever a unit that canStep looks at is placed or removed
+    long getOccupancyVersion();
+}
@@ -1,40 +1,65 @@
 package world;
 
 // Position on the map (row, col)
-// Immutable - returns new Position objects when moving
+// Immutable - moving returns another Position instead of changing this one
+// Use Position.of(row, col): positions on normal-sized boards (plus one step off
+// every edge) are interned, so moving around and scanning the board doesn't allocate.
+// Hot loops that don't need objects work on cell indexes (row * size + col) instead.
 public class Position {
+    // interned range: rows/cols in [CACHE_MIN, CACHE_MAX]
+    private static final int CACHE_MIN = -1;
+    private static final int CACHE_MAX = 63;
+    private static final int CACHE_SPAN = CACHE_MAX - CACHE_MIN + 1;
+    private static final Position[] CACHE = new Position[CACHE_SPAN * CACHE_SPAN];
+
+    static {
+        for (int r = CACHE_MIN; r <= CACHE_MAX; r++) {
+            for (int c = CACHE_MIN; c <= CACHE_MAX; c++) {
+                CACHE[(r - CACHE_MIN) * CACHE_SPAN + (c - CACHE_MIN)] = new Position(r, c);
+            }
+        }
+    }
+
     private final int row;
     private final int col;
-    
+
     public Position(int row, int col) {
         this.row = row;
         this.col = col;
     }
-    
+
+    // shared instance for small coordinates, a new one otherwise
+    public static Position of(int row, int col) {
+        if (row >= CACHE_MIN && row <= CACHE_MAX && col >= CACHE_MIN && col <= CACHE_MAX) {
+            return CACHE[(row - CACHE_MIN) * CACHE_SPAN + (col - CACHE_MIN)];
+        }
+        return new Position(row, col);
+    }
+
     public int getRow() {
         return row;
     }
-    
+
     public int getCol() {
         return col;
     }
-    
+
     public Position moveUp() {
-        return new Position(row - 1, col);
+        return of(row - 1, col);
     }
-    
+
     public Position moveDown() {
-        return new Position(row + 1, col);
+        return of(row + 1, col);
     }
-    
+
     public Position moveLeft() {
-        return new Position(row, col - 1);
+        return of(row, col - 1);
     }
-    
+
     public Position moveRight() {
-        return new Position(row, col + 1);
+        return of(row, col + 1);
     }
-    
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -42,16 +67,14 @@ public class Position {
         Position other = (Position) obj;
         return row == other.row && col == other.col;
     }
-    
+
     @Override
     public int hashCode() {
         return 31 * row + col;
     }
-    
+
     @Override
     public String toString() {
         return String.format("(%d, %d)", row, col);
     }
 }
-
-
@@ -0,0 +1,42 @@
+package world;
+
+// Count of units on each row of one lane, as a Fenwick (binary indexed) tree
+// add() and countBetween() are O(log rows), so "is there an opposing unit strictly
+// between these two rows?" costs the same on a 1024-row lane as on an 8-row one.
+public class RowCountTree {
+    private final int[] tree; // 1-based Fenwick array
+    private int total;
+
+    public RowCountTree(int rows) {
+        this.tree = new int[rows + 1];
+    }
+
+    // one more (delta = 1) or one fewer (delta = -1) unit on this row
+    public void add(int row, int delta) {
+        total += delta;
+        for (int i = row + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // units on rows [0, row)
+    private int countBefore(int row) {
+        int n = 0;
+        for (int i = Math.min(row, tree.length - 1); i > 0; i -= i & -i) {
+            n += tree[i];
+        }
+        return n;
+    }
+
+    // units on rows strictly between a and b (either order)
+    public int countBetween(int a, int b) {
+        int lo = Math.min(a, b) + 1;
+        int hi = Math.max(a, b);
+        if (lo >= hi || total == 0) return 0;
+        return countBefore(hi) - countBefore(lo);
+    }
+
+    public int total() {
+        return total;
+    }
+}
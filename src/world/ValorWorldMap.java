@@ -5,28 +5,41 @@ import characters.Monster;
 import utils.TileType;
 import utils.AnsiColor;
 import utils.GameConstants;
+import utils.Rng;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 /**
- * 8x8 board with 3 vertical lanes for Legends of Valor.
+ * Square board with vertical lanes for Legends of Valor.
  * 
- * Lane layout:
+ * Lane layout (default 8x8 with 3 lanes):
  * - Left lane: columns 0-1
  * - Middle lane: columns 3-4  
  * - Right lane: columns 6-7
  * - Walls: columns 2 and 5 (inaccessible)
  * 
+ * Other sizes and lane counts work the same way: lanes are runs of columns
+ * separated by one wall column, and any columns left over after an even split
+ * go to the outer lanes first, alternating sides (16x16 with 5 lanes gives
+ * widths 3,2,2,2,3).
+ * 
  * Features: co-occupancy, blocking, teleport, recall, obstacles, terrain bonuses
+ * 
+ * Occupancy and terrain are mirrored in bitboards (see BitGrid) so entry and
+ * win checks are a few bit operations instead of grid scans, and every lane
+ * keeps per-row hero/monster counts (RowCountTree) so blocking is O(log n). All
+ * changes to cells go through this class so the bitboards never drift; don't
+ * mutate a Cell returned by getCellAt directly.
  */
-public class ValorWorldMap {
+public class ValorWorldMap implements PathGraph {
     private final int size;
     private final Cell[][] grid;
-    private final Random random;
+    private final Rng random;
     private Position partyPosition;
     
     // Stable IDs for rendering (H1, M2, etc.) that persist across respawns
@@ -36,35 +49,408 @@ public class ValorWorldMap {
     // Track which lane each hero started in (for recall/respawn)
     private final Map<Hero, Integer> heroLane = new HashMap<>();
 
-    // Lane definitions: which columns belong to each lane
-    private final int[][] lanes = new int[][] { {0,1}, {3,4}, {6,7} };
-    private final int[] wallColumns = new int[] {2,5};
+    // Lane definitions: which columns belong to each lane (contiguous, ascending)
+    private final int[][] lanes;
+    private final int[] wallColumns;
+    private final int[] laneOfColumn; // column -> lane index, -1 for walls
+
+    // Bitboards (bit = row * size + col), kept in sync with the grid by the
+    // private setTerrain/putHero/takeHero/putMonster/takeMonster helpers
+    private final BitGrid heroCells;
+    private final BitGrid monsterCells;
+    private final BitGrid[] terrainCells;   // one mask per CellType (by ordinal)
+    private final BitGrid blockedCells;     // INACCESSIBLE or OBSTACLE
+    private final BitGrid[] laneCells;      // all cells of each lane
+    // Flow field: steps from each cell to the nearest open cell of the hero nexus row,
+    // through non-blocked terrain (units are ignored). Built once after generation and
+    // patched incrementally by setTerrain, so a monster's best step is 4 array reads.
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private final int[] nexusDistance;
+    private final int[] fieldQueue;
+    private boolean fieldReady;
+    private int[] monsterOrder = new int[0]; // scratch for stepAllMonsters
+    private long terrainVersion; // bumped by every terrain change (PathGraph)
+    private long occupancyVersion; // bumped by every unit placed or removed (PathGraph)
+
+    // Cells whose rendering may have changed since the last drainDirtyCells(), for
+    // BoardDiffRenderer. Off until someone asks for it, so plain games and sims
+    // don't pay for it. dirtyCells dedupes, dirtyList keeps them in O(changes).
+    private boolean trackDirty;
+    private BitGrid dirtyCells;
+    private int[] dirtyList = new int[0];
+    private int dirtyCount;
+
+    // render() output is built in one buffer (and border row) reused across frames
+    private StringBuilder renderBuffer;
+    private String border;
+    private static final String LEGEND = "\nLegend: "
+            + AnsiColor.colorize("N", AnsiColor.YELLOW) + "=Nexus, "
+            + AnsiColor.colorize("X", AnsiColor.WHITE) + "=Wall(Inaccessible), "
+            + AnsiColor.colorize("O", AnsiColor.RED) + "=Obstacle, "
+            + ".=Plain, "
+            + AnsiColor.colorize("B", AnsiColor.GREEN) + "=Bush, "
+            + AnsiColor.colorize("C", AnsiColor.CYAN) + "=Cave, "
+            + AnsiColor.colorize("K", AnsiColor.MAGENTA) + "=Koulou\n"
+            + "Occupancy: "
+            + AnsiColor.colorize("H#", AnsiColor.GREEN) + " = hero (level shown), "
+            + AnsiColor.colorize("M#", AnsiColor.RED) + " = monster. H#/M# indicates co-occupancy.\n";
+
+    // units per row of each lane (Fenwick trees) for the O(log n) blocking check
+    private final RowCountTree[] laneHeroRows;
+    private final RowCountTree[] laneMonsterRows;
+
+    // Where each unit stands, maintained by the same helpers so lookups are O(1).
+    // If a unit somehow sits on two cells, the first in row-major order wins
+    // (same answer the old grid scan gave).
+    private final Map<Hero, Position> heroPositions = new IdentityHashMap<>();
+    private final Map<Monster, Position> monsterPositions = new IdentityHashMap<>();
+    // how many cells each unit is on (normally 1), so removal only searches when it's > 1
+    private final Map<Hero, Integer> heroCellCounts = new IdentityHashMap<>();
+    private final Map<Monster, Integer> monsterCellCounts = new IdentityHashMap<>();
 
     public ValorWorldMap(int size) {
-        // board is designed for 8x8; force size to 8 to keep rules simple
-        this.size = 8;
+        this(size, new Rng());
+    }
+
+    // random stream drives terrain generation and monster movement (seed it for reproducible boards)
+    public ValorWorldMap(int size, Rng random) {
+        this(size, GameConstants.VALOR_LANE_COUNT, random);
+    }
+
+    // size x size board split into laneCount lanes
+    public ValorWorldMap(int size, int laneCount, Rng random) {
+        if (size < 2) {
+            throw new IllegalArgumentException("Board size must be at least 2, got " + size);
+        }
+        if ((long) size * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board size too large: " + size);
+        }
+        if (laneCount < 1 || laneCount * 2 - 1 > size) {
+            throw new IllegalArgumentException(
+                    "Cannot fit " + laneCount + " lanes and their walls on a board of size " + size);
+        }
+        this.size = size;
         this.grid = new Cell[this.size][this.size];
-        this.random = new Random();
+        this.random = random;
+
+        this.lanes = layoutLanes(size, laneCount);
+        this.wallColumns = new int[laneCount - 1];
+        this.laneOfColumn = new int[size];
+        java.util.Arrays.fill(laneOfColumn, -1);
+        for (int i = 0; i < lanes.length; i++) {
+            for (int col : lanes[i]) laneOfColumn[col] = i;
+            if (i > 0) wallColumns[i - 1] = lanes[i][0] - 1;
+        }
+
+        this.heroCells = new BitGrid(this.size, this.size);
+        this.monsterCells = new BitGrid(this.size, this.size);
+        this.blockedCells = new BitGrid(this.size, this.size);
+        this.terrainCells = new BitGrid[CellType.values().length];
+        for (int i = 0; i < terrainCells.length; i++) {
+            terrainCells[i] = new BitGrid(this.size, this.size);
+        }
+        this.laneCells = new BitGrid[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            laneCells[i] = new BitGrid(this.size, this.size);
+            for (int col : lanes[i]) laneCells[i].setColumn(col, 0, this.size);
+        }
+        this.laneHeroRows = new RowCountTree[lanes.length];
+        this.laneMonsterRows = new RowCountTree[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            laneHeroRows[i] = new RowCountTree(this.size);
+            laneMonsterRows[i] = new RowCountTree(this.size);
+        }
+
+        this.nexusDistance = new int[this.size * this.size];
+        this.fieldQueue = new int[this.size * this.size];
+
         generateBoard();
+        rebuildDistanceField();
+    }
+
+    // columns of each lane, left to right, with one wall column between lanes
+    private static int[][] layoutLanes(int size, int laneCount) {
+        int usable = size - (laneCount - 1);
+        int[] widths = new int[laneCount];
+        java.util.Arrays.fill(widths, usable / laneCount);
+        // spread the leftover columns over the outer lanes: 0, last, 1, last-1, ...
+        int extra = usable % laneCount;
+        for (int k = 0; k < extra; k++) {
+            widths[(k & 1) == 0 ? k / 2 : laneCount - 1 - k / 2]++;
+        }
+
+        int[][] out = new int[laneCount][];
+        int col = 0;
+        for (int i = 0; i < laneCount; i++) {
+            out[i] = new int[widths[i]];
+            for (int j = 0; j < widths[i]; j++) out[i][j] = col++;
+            col++; // wall
+        }
+        return out;
+    }
+
+    // --- the only places cells are changed (keeps the bitboards in sync) ---
+
+    private void setTerrain(int r, int c, CellType type) {
+        Cell cell = grid[r][c];
+        int bit = r * size + c;
+        markDirty(bit);
+        terrainCells[cell.getType().ordinal()].clear(bit);
+        cell.setType(type);
+        terrainCells[type.ordinal()].set(bit);
+        terrainVersion++;
+        boolean wasBlocked = blockedCells.get(bit);
+        boolean blocked = type == CellType.INACCESSIBLE || type == CellType.OBSTACLE;
+        blockedCells.set(bit, blocked);
+
+        if (fieldReady && wasBlocked != blocked) {
+            if (blocked) rebuildDistanceField(); // distances can only grow: start over
+            else openInDistanceField(bit);       // distances can only shrink: patch locally
+        }
+    }
+
+    // --- dirty cells (for diff rendering) ---
+
+    private void markDirty(int bit) {
+        if (!trackDirty || dirtyCells.get(bit)) return;
+        dirtyCells.set(bit);
+        if (dirtyCount == dirtyList.length) {
+            dirtyList = java.util.Arrays.copyOf(dirtyList, Math.max(16, dirtyCount * 2));
+        }
+        dirtyList[dirtyCount++] = bit;
+    }
+
+    // start (or stop) recording which cells change; starting clears the record
+    public void setDirtyTracking(boolean on) {
+        trackDirty = on;
+        if (on && dirtyCells == null) dirtyCells = new BitGrid(size, size);
+        if (dirtyCells != null) dirtyCells.clearAll();
+        dirtyCount = 0;
+    }
+
+    // flag a cell for redraw even though the map didn't change it
+    public void markDirty(Position pos) {
+        if (isValidPosition(pos)) markDirty(pos.getRow() * size + pos.getCol());
+    }
+
+    // hand the changed cells (row * size + col, in the order they changed) to the
+    // caller and forget them; returns how many were written
+    public int drainDirtyCells(int[] out) {
+        int n = Math.min(dirtyCount, out.length);
+        for (int i = 0; i < n; i++) {
+            out[i] = dirtyList[i];
+            dirtyCells.clear(dirtyList[i]);
+        }
+        // anything that didn't fit stays queued for the next call
+        System.arraycopy(dirtyList, n, dirtyList, 0, dirtyCount - n);
+        dirtyCount -= n;
+        return n;
+    }
+
+    public int getDirtyCount() {
+        return dirtyCount;
+    }
+
+    // --- flow field toward the hero nexus ---
+
+    // multi-source BFS from every open cell of the bottom row
+    private void rebuildDistanceField() {
+        java.util.Arrays.fill(nexusDistance, UNREACHABLE);
+        int head = 0;
+        int tail = 0;
+        for (int i = (size - 1) * size; i < size * size; i++) {
+            if (blockedCells.get(i)) continue;
+            nexusDistance[i] = 0;
+            fieldQueue[tail++] = i;
+        }
+        spreadDistances(head, tail);
+        fieldReady = true;
+    }
+
+    // a cell just became walkable: give it 1 + its best neighbour and push the
+    // improvement outwards; only cells that actually get closer are visited
+    private void openInDistanceField(int bit) {
+        int r = bit / size;
+        int c = bit % size;
+        int best = r == size - 1 ? 0 : UNREACHABLE;
+        if (r > 0) best = Math.min(best, step(nexusDistance[bit - size]));
+        if (r < size - 1) best = Math.min(best, step(nexusDistance[bit + size]));
+        if (c > 0) best = Math.min(best, step(nexusDistance[bit - 1]));
+        if (c < size - 1) best = Math.min(best, step(nexusDistance[bit + 1]));
+        nexusDistance[bit] = best;
+        if (best == UNREACHABLE) return;
+        fieldQueue[0] = bit;
+        spreadDistances(0, 1);
+    }
+
+    private static int step(int d) {
+        return d == UNREACHABLE ? UNREACHABLE : d + 1;
+    }
+
+    // BFS relaxation over open cells, starting with the queued cells
+    private void spreadDistances(int head, int tail) {
+        while (head < tail) {
+            int cell = fieldQueue[head++];
+            int r = cell / size;
+            int c = cell % size;
+            int next = nexusDistance[cell] + 1;
+            if (r > 0) tail = relax(cell - size, next, tail);
+            if (r < size - 1) tail = relax(cell + size, next, tail);
+            if (c > 0) tail = relax(cell - 1, next, tail);
+            if (c < size - 1) tail = relax(cell + 1, next, tail);
+        }
+    }
+
+    private int relax(int cell, int dist, int tail) {
+        if (dist >= nexusDistance[cell] || blockedCells.get(cell)) return tail;
+        nexusDistance[cell] = dist;
+        fieldQueue[tail++] = cell;
+        return tail;
+    }
+
+
+    private void putHero(int r, int c, Hero h, String id) {
+        grid[r][c].placeHero(h, id);
+        markDirty(r * size + c);
+        occupancyVersion++;
+        if (!heroCells.get(r, c) && laneOfColumn[c] >= 0) laneHeroRows[laneOfColumn[c]].add(r, 1);
+        heroCells.set(r, c);
+        heroCellCounts.merge(h, 1, Integer::sum);
+        Position known = heroPositions.get(h);
+        if (known == null || r * size + c < known.getRow() * size + known.getCol()) {
+            heroPositions.put(h, Position.of(r, c));
+        }
+    }
+
+    private void takeHero(int r, int c) {
+        Hero h = grid[r][c].getHero();
+        grid[r][c].removeHero();
+        markDirty(r * size + c);
+        occupancyVersion++;
+        if (heroCells.get(r, c) && laneOfColumn[c] >= 0) laneHeroRows[laneOfColumn[c]].add(r, -1);
+        heroCells.clear(r, c);
+        boolean elsewhere = heroCellCounts.merge(h, -1, Integer::sum) > 0;
+        if (!elsewhere) heroCellCounts.remove(h);
+        Position known = heroPositions.get(h);
+        if (known != null && known.getRow() == r && known.getCol() == c) {
+            heroPositions.remove(h);
+            if (elsewhere) reindexHero(h);
+        }
+    }
+
+    private void putMonster(int r, int c, Monster m, String id) {
+        grid[r][c].placeMonster(m, id);
+        markDirty(r * size + c);
+        occupancyVersion++;
+        if (!monsterCells.get(r, c) && laneOfColumn[c] >= 0) laneMonsterRows[laneOfColumn[c]].add(r, 1);
+        monsterCells.set(r, c);
+        monsterCellCounts.merge(m, 1, Integer::sum);
+        Position known = monsterPositions.get(m);
+        if (known == null || r * size + c < known.getRow() * size + known.getCol()) {
+            monsterPositions.put(m, Position.of(r, c));
+        }
+    }
+
+    private void takeMonster(int r, int c) {
+        Monster m = grid[r][c].getMonster();
+        grid[r][c].removeMonster();
+        markDirty(r * size + c);
+        occupancyVersion++;
+        if (monsterCells.get(r, c) && laneOfColumn[c] >= 0) laneMonsterRows[laneOfColumn[c]].add(r, -1);
+        monsterCells.clear(r, c);
+        boolean elsewhere = monsterCellCounts.merge(m, -1, Integer::sum) > 0;
+        if (!elsewhere) monsterCellCounts.remove(m);
+        Position known = monsterPositions.get(m);
+        if (known != null && known.getRow() == r && known.getCol() == c) {
+            monsterPositions.remove(m);
+            if (elsewhere) reindexMonster(m);
+        }
+    }
+
+    // only happens if the same unit was placed twice: look for its other copy on the board
+    private void reindexHero(Hero h) {
+        for (int i = heroCells.nextSetBit(0); i >= 0; i = heroCells.nextSetBit(i + 1)) {
+            if (grid[i / size][i % size].getHero() == h) {
+                heroPositions.put(h, Position.of(i / size, i % size));
+                return;
+            }
+        }
+    }
+
+    private void reindexMonster(Monster m) {
+        for (int i = monsterCells.nextSetBit(0); i >= 0; i = monsterCells.nextSetBit(i + 1)) {
+            if (grid[i / size][i % size].getMonster() == m) {
+                monsterPositions.put(m, Position.of(i / size, i % size));
+                return;
+            }
+        }
     }
     
-    // Return the columns that make up a lane (0..2)
+    // Return the columns that make up a lane (0..laneCount-1)
     public int[] getLaneColumns(int laneIdx) {
         if (laneIdx < 0 || laneIdx >= lanes.length) return new int[0];
         return lanes[laneIdx].clone();
     }
 
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    @Override
     public int getSize() {
         return size;
     }
 
+    // --- PathGraph: routes for heroes (same rules as move(), orthogonal steps only) ---
+
+    @Override
+    public boolean canStep(int fromRow, int fromCol, int toRow, int toCol) {
+        if (toRow < 0 || toRow >= size || toCol < 0 || toCol >= size) return false;
+        if (Math.abs(toRow - fromRow) + Math.abs(toCol - fromCol) != 1) return false;
+        int bit = toRow * size + toCol;
+        if (blockedCells.get(bit) || heroCells.get(bit)) return false;
+        int lane = laneOfColumn[toCol];
+        return lane < 0 || laneOfColumn[fromCol] != lane
+                || laneMonsterRows[lane].countBetween(fromRow, toRow) == 0;
+    }
+
+    @Override
+    public long getTerrainVersion() {
+        return terrainVersion;
+    }
+
+    @Override
+    public long getOccupancyVersion() {
+        return occupancyVersion;
+    }
+
+    // every cell of the given terrain, row-major (e.g. markets to auto-travel to)
+    public List<Position> getCellsOfType(CellType type) {
+        BitGrid cells = terrainCells[type.ordinal()];
+        List<Position> out = new ArrayList<>(cells.cardinality());
+        for (int i = cells.nextSetBit(0); i >= 0; i = cells.nextSetBit(i + 1)) {
+            out.add(Position.of(i / size, i % size));
+        }
+        return out;
+    }
+
+    // the monster nexus cells (top row) - where heroes are trying to get to
+    public List<Position> getMonsterNexusCells() {
+        List<Position> out = new ArrayList<>();
+        BitGrid nexus = terrainCells[CellType.NEXUS.ordinal()];
+        for (int i = nexus.nextSetBit(0); i >= 0 && i < size; i = nexus.nextSetBit(i + 1)) {
+            out.add(Position.of(0, i));
+        }
+        return out;
+    }
+
     /**
-     * Generate the 3-lane board with random terrain.
+     * Generate the lane board with random terrain.
      * 
      * Board structure:
      * - Top row = monster nexus spawns
      * - Bottom row = hero nexus spawns
-     * - Columns 2 & 5 = walls
+     * - Wall columns between lanes (2 & 5 on the default board)
      * - Random terrain sprinkled throughout lanes
      * - Guaranteed at least one path per lane from top to bottom
      */
@@ -73,133 +459,111 @@ public class ValorWorldMap {
         for (int r = 0; r < size; r++) {
             for (int c = 0; c < size; c++) {
                 grid[r][c] = new Cell(CellType.PLAIN);
+                setTerrain(r, c, CellType.PLAIN);
             }
         }
 
         // Create the vertical walls between lanes
         for (int wc : wallColumns) {
             for (int r = 0; r < size; r++) {
-                grid[r][wc].setType(CellType.INACCESSIBLE);
+                setTerrain(r, wc, CellType.INACCESSIBLE);
             }
         }
 
         // Top and bottom rows = nexus (spawn points)
         for (int[] lane : lanes) {
             for (int col : lane) {
-                grid[0][col].setType(CellType.NEXUS); // Monster spawn
-                grid[size - 1][col].setType(CellType.NEXUS); // Hero spawn
+                setTerrain(0, col, CellType.NEXUS); // Monster spawn
+                setTerrain(size - 1, col, CellType.NEXUS); // Hero spawn
             }
         }
 
-        // Find all plain spots where we can put special terrain
-        List<int[]> elig = new ArrayList<>();
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                CellType t = grid[r][c].getType();
-                if (t == CellType.PLAIN) {
-                    elig.add(new int[] {r, c});
-                }
-            }
+        // Find all plain spots where we can put special terrain (cell indexes, row-major)
+        BitGrid plain = terrainCells[CellType.PLAIN.ordinal()];
+        int[] elig = new int[plain.cardinality()];
+        int n = 0;
+        for (int i = plain.nextSetBit(0); i >= 0; i = plain.nextSetBit(i + 1)) {
+            elig[n++] = i;
         }
 
         // Make sure at least one of each special terrain exists
         CellType[] special = new CellType[] { CellType.OBSTACLE, CellType.BUSH, CellType.CAVE, CellType.KOULOU };
-        Collections.shuffle(elig, random);
+        random.shuffle(elig);
         int pick = 0;
         for (CellType st : special) {
-            if (pick >= elig.size()) break;
-            int[] pos = elig.get(pick++);
-            grid[pos[0]][pos[1]].setType(st);
+            if (pick >= elig.length) break;
+            int cell = elig[pick++];
+            setTerrain(cell / size, cell % size, st);
         }
 
         // Fill remaining spots with random terrain (weighted probabilities)
-        for (int i = pick; i < elig.size(); i++) {
-            int[] pos = elig.get(i);
+        for (int i = pick; i < elig.length; i++) {
+            int cell = elig[i];
             double r = random.nextDouble();
-            if (r < 0.12) grid[pos[0]][pos[1]].setType(CellType.OBSTACLE);
-            else if (r < 0.20) grid[pos[0]][pos[1]].setType(CellType.BUSH);
-            else if (r < 0.26) grid[pos[0]][pos[1]].setType(CellType.CAVE);
-            else if (r < 0.30) grid[pos[0]][pos[1]].setType(CellType.KOULOU);
-            else grid[pos[0]][pos[1]].setType(CellType.PLAIN);
+            if (r < 0.12) setTerrain(cell / size, cell % size, CellType.OBSTACLE);
+            else if (r < 0.20) setTerrain(cell / size, cell % size, CellType.BUSH);
+            else if (r < 0.26) setTerrain(cell / size, cell % size, CellType.CAVE);
+            else if (r < 0.30) setTerrain(cell / size, cell % size, CellType.KOULOU);
+            else setTerrain(cell / size, cell % size, CellType.PLAIN);
         }
 
         // Add a couple market tiles
         int marketsToPlace = 2;
         int placed = 0;
-        for (int i = pick; i < elig.size() && placed < marketsToPlace; i++) {
-            int[] pos = elig.get(i);
-            if (grid[pos[0]][pos[1]].getType() == CellType.PLAIN) {
-                grid[pos[0]][pos[1]].setType(CellType.MARKET);
+        for (int i = pick; i < elig.length && placed < marketsToPlace; i++) {
+            int cell = elig[i];
+            if (plain.get(cell)) {
+                setTerrain(cell / size, cell % size, CellType.MARKET);
                 placed++;
             }
         }
 
         // Default party position (not actually used in Valor mode)
-        int spawnCol = lanes[1][0];
-        this.partyPosition = new Position(size - 1, spawnCol);
+        int spawnCol = lanes[lanes.length / 2][0];
+        this.partyPosition = Position.of(size - 1, spawnCol);
 
         // Make sure each lane has a clear path (clear obstacles if needed)
-        for (int i = 0; i < lanes.length; i++) {
-            ensureLanePathExists(i);
-        }
+        ensureLanePathsExist();
     }
 
-    // Ensure there is a walkable path from top to bottom within the given lane (by columns)
-    // If no path exists due to obstacles, carve a vertical path by clearing obstacles in one column.
-    private void ensureLanePathExists(int laneIdx) {
-        int[] laneCols = lanes[laneIdx];
-
-        // BFS from any top nexus cell in the lane to any bottom nexus cell in the lane
-        List<Position> starts = new ArrayList<>();
-        List<Position> goals = new ArrayList<>();
-        for (int col : laneCols) {
-            starts.add(new Position(0, col));
-            goals.add(new Position(size - 1, col));
-        }
-
-        // perform BFS limited to lane columns and forbidding INACCESSIBLE and OBSTACLE
-        boolean reachable = false;
-        java.util.LinkedList<Position> queue = new java.util.LinkedList<>();
-        java.util.Set<Position> visited = new java.util.HashSet<>();
-        for (Position s : starts) {
-            queue.add(s);
-            visited.add(s);
-        }
-
-        while (!queue.isEmpty() && !reachable) {
-            Position p = queue.removeFirst();
-            // check goals
-            for (Position g : goals) {
-                if (p.equals(g)) { reachable = true; break; }
-            }
-            if (reachable) break;
-
-            // neighbors but restrict columns to laneCols
-            for (Position n : neighbors(p)) {
-                if (visited.contains(n)) continue;
-                int nc = n.getCol();
-                boolean inLane = false;
-                for (int c : laneCols) if (c == nc) { inLane = true; break; }
-                if (!inLane) continue;
-                Cell ccell = getCellAt(n);
-                if (ccell == null) continue;
-                if (ccell.getType() == CellType.INACCESSIBLE || ccell.getType() == CellType.OBSTACLE) continue;
-                visited.add(n);
-                queue.add(n);
+    // Ensure every lane has a walkable path from top to bottom.
+    // Connectivity comes from one union-find pass over the whole board: neighbouring
+    // open cells of the same lane are joined, and each lane also gets a virtual
+    // "top" and "bottom" node joined to its open top/bottom row cells. A lane is
+    // passable iff its top and bottom nodes end up in the same set. Lanes are
+    // separated by walls, so carving one lane never changes another's answer.
+    private void ensureLanePathsExist() {
+        int cells = size * size;
+        DisjointSet sets = new DisjointSet(cells + 2 * lanes.length);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                int bit = r * size + c;
+                int lane = laneOfColumn[c];
+                if (lane < 0 || blockedCells.get(bit)) continue;
+                if (c + 1 < size && laneOfColumn[c + 1] == lane && !blockedCells.get(bit + 1)) {
+                    sets.union(bit, bit + 1);
+                }
+                if (r + 1 < size && !blockedCells.get(bit + size)) {
+                    sets.union(bit, bit + size);
+                }
+                if (r == 0) sets.union(bit, cells + 2 * lane);                // lane top
+                if (r == size - 1) sets.union(bit, cells + 2 * lane + 1);     // lane bottom
             }
         }
 
-        if (reachable) return;
+        for (int i = 0; i < lanes.length; i++) {
+            if (!sets.connected(cells + 2 * i, cells + 2 * i + 1)) carveLane(i);
+        }
+    }
 
-        // No reachable path: carve a vertical path in the first column of the lane
-        int carveCol = laneCols[0];
+    // No reachable path: carve a vertical path in the first column of the lane
+    private void carveLane(int laneIdx) {
+        int carveCol = lanes[laneIdx][0];
         for (int r = 0; r < size; r++) {
-            Position p = new Position(r, carveCol);
-            Cell c = getCellAt(p);
-            if (c == null) continue;
+            Cell c = grid[r][carveCol];
             // don't overwrite nexus or market; but ensure obstacles cleared
-            if (c.getType() == CellType.OBSTACLE) c.setType(CellType.PLAIN);
-            else if (c.getType() == CellType.INACCESSIBLE) c.setType(CellType.PLAIN);
+            if (c.getType() == CellType.OBSTACLE) setTerrain(r, carveCol, CellType.PLAIN);
+            else if (c.getType() == CellType.INACCESSIBLE) setTerrain(r, carveCol, CellType.PLAIN);
         }
     }
 
@@ -209,6 +573,11 @@ public class ValorWorldMap {
         return render();
     }
 
+    // same, but boards larger than GameConstants.VALOR_VIEW_SIZE show only the area around focus
+    public String displayMap(Position focus) {
+        return render(focus, GameConstants.VALOR_VIEW_SIZE);
+    }
+
     public Position getPartyPosition() {
         return partyPosition;
     }
@@ -258,37 +627,29 @@ public class ValorWorldMap {
     // orthogonal neighbors only (N/E/S/W)
     public List<Position> neighbors(Position pos) {
         if (!isValidPosition(pos)) return Collections.emptyList();
-        List<Position> out = new ArrayList<>();
+        List<Position> out = new ArrayList<>(4);
         int r = pos.getRow();
         int c = pos.getCol();
-        Position up = new Position(r - 1, c);
-        Position down = new Position(r + 1, c);
-        Position left = new Position(r, c - 1);
-        Position right = new Position(r, c + 1);
-        if (isValidPosition(up)) out.add(up);
-        if (isValidPosition(down)) out.add(down);
-        if (isValidPosition(left)) out.add(left);
-        if (isValidPosition(right)) out.add(right);
+        if (r > 0) out.add(Position.of(r - 1, c));
+        if (r < size - 1) out.add(Position.of(r + 1, c));
+        if (c > 0) out.add(Position.of(r, c - 1));
+        if (c < size - 1) out.add(Position.of(r, c + 1));
         return out;
     }
 
     // whether a cell is traversable for standard movement (obstacles and inaccessible block movement)
     public boolean isWalkable(Position pos) {
-        Cell c = getCellAt(pos);
-        if (c == null) return false;
-        CellType t = c.getType();
-        return t != CellType.INACCESSIBLE && t != CellType.OBSTACLE;
+        if (!isValidPosition(pos)) return false;
+        return !blockedCells.get(pos.getRow(), pos.getCol());
     }
 
     // whether a hero/monster can enter a cell obeying occupancy rules
     // heroes and monsters can co-occupy a cell, but two of the same type cannot
     public boolean canEnter(Position pos, boolean isHero) {
         if (!isValidPosition(pos)) return false;
-        Cell c = getCellAt(pos);
-        if (c.getType() == CellType.INACCESSIBLE) return false;
-        if (c.getType() == CellType.OBSTACLE) return false; // obstacle must be removed first
-        if (isHero) return !c.hasHero();
-        else return !c.hasMonster();
+        int bit = pos.getRow() * size + pos.getCol();
+        if (blockedCells.get(bit)) return false; // walls, and obstacles must be removed first
+        return !(isHero ? heroCells : monsterCells).get(bit);
     }
 
     // place hero/monster at a cell (assumes canEnter checked)
@@ -301,7 +662,7 @@ public class ValorWorldMap {
             heroIds.put(h, next);
         }
         String id = "H" + heroIds.get(h);
-        getCellAt(pos).placeHero(h, id);
+        putHero(pos.getRow(), pos.getCol(), h, id);
         // record original lane if not already recorded
         if (!heroLane.containsKey(h)) {
             int lane = getLaneIndexForPosition(pos);
@@ -316,7 +677,7 @@ public class ValorWorldMap {
         if (!c.hasHero()) return false;
         // clear mapping for the hero instance if exists
         Hero h = c.getHero();
-        c.removeHero();
+        takeHero(pos.getRow(), pos.getCol());
         if (h != null) heroIds.remove(h);
         return true;
     }
@@ -327,7 +688,7 @@ public class ValorWorldMap {
         if (!isValidPosition(pos)) return false;
         Cell c = getCellAt(pos);
         if (!c.hasHero()) return false;
-        c.removeHero();
+        takeHero(pos.getRow(), pos.getCol());
         return true;
     }
 
@@ -340,7 +701,7 @@ public class ValorWorldMap {
             monsterIds.put(m, next);
         }
         String id = "M" + monsterIds.get(m);
-        getCellAt(pos).placeMonster(m, id);
+        putMonster(pos.getRow(), pos.getCol(), m, id);
         return true;
     }
 
@@ -348,7 +709,7 @@ public class ValorWorldMap {
         if (!isValidPosition(pos)) return false;
         Cell c = getCellAt(pos);
         if (!c.hasMonster()) return false;
-        c.removeMonster();
+        takeMonster(pos.getRow(), pos.getCol());
         // Do NOT remove the monster id mapping here. We want stable short-ids
         // for monsters even if they are temporarily removed for battles so that
         // restored monsters keep their original 'M#' identifier. Removing the
@@ -357,87 +718,103 @@ public class ValorWorldMap {
         return true;
     }
 
-    // find position of a hero on the board (null if not placed)
+    // position of a hero on the board (null if not placed) - O(1) index lookup
     public Position getHeroPosition(Hero h) {
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                Cell cell = grid[r][c];
-                if (cell.hasHero() && cell.getHero() == h) return new Position(r, c);
-            }
-        }
-        return null;
+        return heroPositions.get(h);
     }
 
-    // find position of a monster on the board (first match)
+    // position of a monster on the board (null if not placed)
     public Position getMonsterPosition(Monster m) {
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                Cell cell = grid[r][c];
-                if (cell.hasMonster() && cell.getMonster() == m) return new Position(r, c);
+        return monsterPositions.get(m);
+    }
+
+    // monsters within attack range (same or adjacent cell, diagonals included) of pos,
+    // in row-major order
+    public Map<Monster, Position> monstersInRangeOf(Position pos) {
+        return monstersWithinChebyshev(pos, 1);
+    }
+
+    // monsters at most radius rows and radius columns away from pos, in row-major order.
+    // Reads the monster bitboard one row segment at a time, so the cost is
+    // O(radius * (radius / 64 + 1) + hits) however big the board is.
+    public Map<Monster, Position> monstersWithinChebyshev(Position pos, int radius) {
+        Map<Monster, Position> out = new LinkedHashMap<>();
+        if (!isValidPosition(pos) || radius < 0 || monsterCells.isEmpty()) return out; // isEmpty is O(1)
+        int left = Math.max(0, pos.getCol() - radius);
+        int right = Math.min(size - 1, pos.getCol() + radius);
+        for (int r = Math.max(0, pos.getRow() - radius); r <= Math.min(size - 1, pos.getRow() + radius); r++) {
+            int end = r * size + right;
+            for (int i = monsterCells.nextSetBit(r * size + left); i >= 0 && i <= end; i = monsterCells.nextSetBit(i + 1)) {
+                out.put(grid[r][i - r * size].getMonster(), Position.of(r, i - r * size));
             }
         }
-        return null;
+        return out;
     }
 
     /**
-     * Move one random monster forward toward heroes.
+     * Move one random monster toward the hero nexus.
      * Called after each hero move to gradually advance monster pressure.
      * 
-     * Movement strategy:
-     * 1. Try moving forward (down one row)
-     * 2. If blocked, try moving sideways within lane to go around obstacles
-     * 3. If still blocked, stay put
+     * Movement strategy: follow the distance field - step to the neighbouring
+     * cell (down, left, right, then up on ties) that is closest to the hero
+     * nexus, as long as it's strictly closer than where the monster stands and
+     * the move is legal. Walks around obstacles instead of getting stuck behind them.
      */
     public void stepMonsters() {
-        // Find all monsters on the board
-        List<Position> monsterPositions = new ArrayList<>();
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                Cell cell = grid[r][c];
-                if (cell.hasMonster()) monsterPositions.add(new Position(r, c));
-            }
-        }
-
-        if (monsterPositions.isEmpty()) return;
+        int monsterCount = monsterCells.cardinality();
+        if (monsterCount == 0) return;
 
-        // Pick one random monster to move (prevents overwhelming hero)
-        Position chosen = monsterPositions.get(random.nextInt(monsterPositions.size()));
-        Cell src = getCellAt(chosen);
-        Monster m = src.getMonster();
-        if (m == null) return;
+        // Pick one random monster to move (prevents overwhelming hero);
+        // n-th monster in row-major order, same as scanning the grid
+        int bit = monsterCells.nthSetBit(random.nextInt(monsterCount));
+        stepMonsterAt(bit);
+    }
 
-        // Try moving forward first
-        Position forward = chosen.moveDown();
-        if (isValidPosition(forward) && canEnter(forward, false) && !isBlockedByOpposingUnit(chosen, forward, false)) {
-            Cell dst = getCellAt(forward);
-            src.removeMonster();
-            Integer mid = monsterIds.get(m);
-            String id = mid != null ? "M" + mid : null;
-            dst.placeMonster(m, id);
-            return;
+    // Move every monster one step, bottom rows (the hero nexus side) first so the
+    // ones in front clear the way for the ones behind. O(1) per monster plus
+    // collecting them; used when GameContext.allMonstersMove is on.
+    public void stepAllMonsters() {
+        if (monsterOrder.length < monsterCells.cardinality()) {
+            monsterOrder = new int[Math.max(monsterCells.cardinality(), monsterOrder.length * 2)];
         }
+        int[] cells = monsterOrder;
+        int n = 0;
+        for (int i = monsterCells.nextSetBit(0); i >= 0; i = monsterCells.nextSetBit(i + 1)) {
+            cells[n++] = i;
+        }
+        for (int k = n - 1; k >= 0; k--) {
+            stepMonsterAt(cells[k]);
+        }
+    }
 
-        // Forward blocked, try moving sideways to go around obstacles
-        int laneIdx = getLaneIndexForPosition(chosen);
-        if (laneIdx == -1) return;
-
-        int[] laneCols = lanes[laneIdx];
-        int curCol = chosen.getCol();
-        int otherCol = laneCols.length > 1 ? (laneCols[0] == curCol ? laneCols[1] : laneCols[0]) : curCol;
-
-        if (otherCol != curCol) {
-            Position lateral = new Position(chosen.getRow(), otherCol);
-            if (isValidPosition(lateral) && canEnter(lateral, false) && !isBlockedByOpposingUnit(chosen, lateral, false)) {
-                Cell dst = getCellAt(lateral);
-                src.removeMonster();
-                Integer mid = monsterIds.get(m);
-                String id = mid != null ? "M" + mid : null;
-                dst.placeMonster(m, id);
-                return;
-            }
+    // one flow-field step for the monster on cell index bit; false if it stays put
+    private boolean stepMonsterAt(int bit) {
+        int r = bit / size;
+        int c = bit % size;
+        Monster m = grid[r][c].getMonster();
+        if (m == null) return false;
+
+        int bestCell = -1;
+        int bestDist = nexusDistance[bit];
+        Position chosen = Position.of(r, c);
+        for (int k = 0; k < 4; k++) {
+            int nr = r + (k == 0 ? 1 : k == 3 ? -1 : 0);       // down, left, right, up
+            int nc = c + (k == 1 ? -1 : k == 2 ? 1 : 0);
+            if (nr < 0 || nr >= size || nc < 0 || nc >= size) continue;
+            int n = nr * size + nc;
+            if (nexusDistance[n] >= bestDist) continue;
+            Position to = Position.of(nr, nc);
+            if (!canEnter(to, false) || isBlockedByOpposingUnit(chosen, to, false)) continue;
+            bestCell = n;
+            bestDist = nexusDistance[n];
         }
+        if (bestCell < 0) return false; // nowhere closer to go, monster stays put
 
-        // Couldn't move anywhere, monster stays put
+        takeMonster(r, c);
+        Integer mid = monsterIds.get(m);
+        String id = mid != null ? "M" + mid : null;
+        putMonster(bestCell / size, bestCell % size, m, id);
+        return true;
     }
 
     // Blocking rule: cannot move past an opposing unit in the same lane
@@ -449,17 +826,9 @@ public class ValorWorldMap {
         if (laneFrom == -1 || laneTo == -1) return false; // if not in lanes, don't block
         if (laneFrom != laneTo) return false; // different lanes
 
-        int minRow = Math.min(from.getRow(), to.getRow());
-        int maxRow = Math.max(from.getRow(), to.getRow());
-        // check any cell strictly between the two rows in same lane columns
-        for (int r = minRow + 1; r < maxRow; r++) {
-            for (int col : lanes[laneFrom]) {
-                Cell c = grid[r][col];
-                if (movingIsHero && c.hasMonster()) return true;
-                if (!movingIsHero && c.hasHero()) return true;
-            }
-        }
-        return false;
+        // any opposing unit in this lane on a row strictly between the two
+        RowCountTree opposing = movingIsHero ? laneMonsterRows[laneFrom] : laneHeroRows[laneFrom];
+        return opposing.countBetween(from.getRow(), to.getRow()) > 0;
     }
 
     // simple move (one step) for hero or monster
@@ -476,18 +845,18 @@ public class ValorWorldMap {
         if (isHero) {
             Hero h = src.getHero();
             if (h == null) return false;
-            src.removeHero();
+            takeHero(from.getRow(), from.getCol());
             // preserve hero id mapping if present
             Integer hid = heroIds.get(h);
             String hidStr = hid != null ? "H" + hid : null;
-            dst.placeHero(h, hidStr);
+            putHero(to.getRow(), to.getCol(), h, hidStr);
         } else {
             Monster m = src.getMonster();
             if (m == null) return false;
-            src.removeMonster();
+            takeMonster(from.getRow(), from.getCol());
             Integer mid = monsterIds.get(m);
             String midStr = mid != null ? "M" + mid : null;
-            dst.placeMonster(m, midStr);
+            putMonster(to.getRow(), to.getCol(), m, midStr);
         }
         return true;
     }
@@ -543,11 +912,14 @@ public class ValorWorldMap {
         int laneTarget = laneForColumn(target.getCol());
         if (laneTarget == -1) return out; // target not in a lane
 
-        // iterate rows target.row-1 .. target.row+1 and cols that are in the target's lane
+        // iterate rows target.row .. target.row+1 and the target's lane columns next to it
+        int[] laneCols = lanes[laneTarget];
+        int fromCol = Math.max(laneCols[0], target.getCol() - 1);
+        int toCol = Math.min(laneCols[laneCols.length - 1], target.getCol() + 1);
         for (int rr = target.getRow(); rr <= target.getRow() + 1; rr++) {
             if (rr < 0 || rr >= size) continue;
-            for (int col : lanes[laneTarget]) {
-                Position cand = new Position(rr, col);
+            for (int col = fromCol; col <= toCol; col++) {
+                Position cand = Position.of(rr, col);
                 if (!isValidPosition(cand)) continue;
                 if (cand.equals(target)) continue; // skip the target's own cell
                 if (applyTeleportRules(cand, target, isHeroMover)) out.add(cand);
@@ -565,15 +937,15 @@ public class ValorWorldMap {
         // prefer the hero's original lane if recorded; otherwise fall back to current position
         Integer laneObj = (h != null) ? heroLane.get(h) : null;
         int lane = (laneObj != null) ? laneObj : getLaneIndexForPosition(from);
-        if (lane == -1) lane = 1; // fallback to middle lane spawn
+        if (lane == -1) lane = lanes.length / 2; // fallback to middle lane spawn
         int spawnCol = lanes[lane][0];
-        Position spawn = new Position(size - 1, spawnCol);
+        Position spawn = Position.of(size - 1, spawnCol);
         Cell dest = getCellAt(spawn);
         if (dest.hasHero()) return false; // spawn occupied
         // perform move
         if (h == null) return false;
         // detach without removing id mapping
-        src.removeHero();
+        takeHero(from.getRow(), from.getCol());
         placeHero(spawn, h);
         return true;
     }
@@ -592,16 +964,14 @@ public class ValorWorldMap {
         if (!isValidPosition(pos)) return false;
         Cell c = getCellAt(pos);
         if (c.getType() != CellType.OBSTACLE) return false;
-        c.setType(CellType.PLAIN);
+        setTerrain(pos.getRow(), pos.getCol(), CellType.PLAIN);
         return true;
     }
 
-    // get lane index 0..2 by column grouping; returns -1 if column is not part of a lane (e.g. wall)
+    // get lane index by column; returns -1 if column is not part of a lane (e.g. wall)
     private int laneForColumn(int col) {
-        for (int i = 0; i < lanes.length; i++) {
-            for (int c : lanes[i]) if (c == col) return i;
-        }
-        return -1;
+        if (col < 0 || col >= size) return -1;
+        return laneOfColumn[col];
     }
 
     // get lane index for a position (based on its column)
@@ -610,11 +980,20 @@ public class ValorWorldMap {
         return laneForColumn(pos.getCol());
     }
 
-    // helper: get hero nexus spawn position for index 0..2 (bottom row)
+    // helper: get hero nexus spawn position for party slot index (bottom row).
+    // Slot i < laneCount is the first column of lane i; with fewer lanes than heroes
+    // the extra slots take the next column of each lane in turn, so every hero gets
+    // its own cell while the nexus row has room (past that, the last lane's cell).
     public Position getHeroNexusSpawn(int index) {
-        int idx = Math.max(0, Math.min(index, lanes.length - 1));
-        int col = lanes[idx][0];
-        return new Position(size - 1, col);
+        int remaining = Math.max(0, index);
+        int widest = 0;
+        for (int[] lane : lanes) widest = Math.max(widest, lane.length);
+        for (int k = 0; k < widest; k++) {
+            for (int[] lane : lanes) {
+                if (k < lane.length && remaining-- == 0) return Position.of(size - 1, lane[k]);
+            }
+        }
+        return Position.of(size - 1, lanes[lanes.length - 1][0]);
     }
 
     // Teleport a hero from one position to another while preserving their short id mapping.
@@ -640,82 +1019,119 @@ public class ValorWorldMap {
         }
 
         // remove hero from source cell (do not remove mapping)
-        src.removeHero();
+        takeHero(from.getRow(), from.getCol());
 
         // place into destination preserving id string
         String id = "H" + existing;
-        dst.placeHero(h, id);
+        putHero(to.getRow(), to.getCol(), h, id);
         return true;
     }
 
-    // helper: get monster nexus spawn position for index 0..2 (top row)
+    // helper: get monster nexus spawn position for lane index (top row, clamped to the lanes)
     public Position getMonsterNexusSpawn(int index) {
         int idx = Math.max(0, Math.min(index, lanes.length - 1));
         int col = lanes[idx][0];
-        return new Position(0, col);
+        return Position.of(0, col);
     }
 
     // remove any monsters placed on the top nexus (cleanup after battles)
     public void clearMonstersAtTopNexus() {
         for (int i = 0; i < lanes.length; i++) {
             int col = lanes[i][0];
-            Position p = new Position(0, col);
-            Cell c = getCellAt(p);
-            if (c != null && c.hasMonster()) c.removeMonster();
+            if (monsterCells.get(0, col)) takeMonster(0, col);
         }
     }
 
-    // check if any hero has reached the top nexus (row 0)
+    // check if any hero has reached the top nexus (row 0) - only that row's words are read
     public boolean anyHeroAtTopNexus() {
-        for (int c = 0; c < size; c++) {
-            Cell cell = grid[0][c];
-            if (cell.hasHero() && cell.getType() == CellType.NEXUS) return true;
-        }
-        return false;
+        return heroCells.intersectsInRange(terrainCells[CellType.NEXUS.ordinal()], 0, size);
     }
 
     // check if any monster has reached the bottom nexus (row size-1)
     public boolean anyMonsterAtBottomNexus() {
-        for (int c = 0; c < size; c++) {
-            Cell cell = grid[size - 1][c];
-            if (cell.hasMonster() && cell.getType() == CellType.NEXUS) return true;
-        }
-        return false;
+        return monsterCells.intersectsInRange(terrainCells[CellType.NEXUS.ordinal()],
+                (size - 1) * size, size * size);
     }
 
-    // Text rendering
+    // Text rendering (whole board)
     public String render() {
-        StringBuilder sb = new StringBuilder();
+        return render(0, 0, size, size);
+    }
+
+    // Board window of up to viewSize x viewSize cells centred on focus (whole board if it fits).
+    // Keeps the per-turn display the same size on very large boards.
+    public String render(Position focus, int viewSize) {
+        StringBuilder sb = renderBuffer();
+        renderInto(sb, focus, viewSize);
+        return sb.toString();
+    }
+
+    // whole board appended to sb; allocates nothing once sb has grown to a frame's size
+    public void renderInto(StringBuilder sb) {
+        renderInto(sb, 0, 0, size, size);
+    }
+
+    // windowed board appended to sb (see render(Position, int))
+    public void renderInto(StringBuilder sb, Position focus, int viewSize) {
+        if (size <= viewSize) {
+            renderInto(sb);
+            return;
+        }
+        int fr = isValidPosition(focus) ? focus.getRow() : size - 1;
+        int fc = isValidPosition(focus) ? focus.getCol() : 0;
+        int top = Math.max(0, Math.min(fr - viewSize / 2, size - viewSize));
+        int left = Math.max(0, Math.min(fc - viewSize / 2, size - viewSize));
+        sb.append("Rows ").append(top).append('-').append(top + viewSize - 1)
+                .append(", columns ").append(left).append('-').append(left + viewSize - 1)
+                .append(" of ").append(size).append('x').append(size).append('\n');
+        renderInto(sb, top, left, viewSize, viewSize);
+    }
+
+    private String render(int top, int left, int rows, int cols) {
+        StringBuilder sb = renderBuffer();
+        renderInto(sb, top, left, rows, cols);
+        return sb.toString();
+    }
+
+    // the map's own frame buffer, emptied for the next frame
+    private StringBuilder renderBuffer() {
+        if (renderBuffer == null) renderBuffer = new StringBuilder(1024);
+        renderBuffer.setLength(0);
+        return renderBuffer;
+    }
+
+    // rows [top, top+rows) x columns [left, left+cols), clamped to the board
+    private void renderInto(StringBuilder sb, int top, int left, int rows, int cols) {
+        int bottom = Math.min(size, top + rows);
+        int right = Math.min(size, left + cols);
+        String border = border(right - left);
+
         // top border
-        sb.append("+");
-        for (int i=0;i<size;i++) sb.append("------+");
-        sb.append('\n');
+        sb.append(border);
 
-        for (int r = 0; r < size; r++) {
-            sb.append("|");
-            for (int c = 0; c < size; c++) {
-                sb.append(getCellAt(new Position(r,c)).renderShort());
-                sb.append("|");
+        for (int r = top; r < bottom; r++) {
+            sb.append('|');
+            for (int c = left; c < right; c++) {
+                grid[r][c].appendShort(sb);
+                sb.append('|');
             }
             sb.append('\n');
-            sb.append("+");
-            for (int i=0;i<size;i++) sb.append("------+");
-            sb.append('\n');
+            sb.append(border);
         }
 
         // Legend with colors
-        sb.append("\nLegend: ");
-        sb.append(AnsiColor.colorize("N", AnsiColor.YELLOW)).append("=Nexus, ");
-        sb.append(AnsiColor.colorize("X", AnsiColor.WHITE)).append("=Wall(Inaccessible), ");
-        sb.append(AnsiColor.colorize("O", AnsiColor.RED)).append("=Obstacle, ");
-        sb.append(".=Plain, ");
-        sb.append(AnsiColor.colorize("B", AnsiColor.GREEN)).append("=Bush, ");
-        sb.append(AnsiColor.colorize("C", AnsiColor.CYAN)).append("=Cave, ");
-        sb.append(AnsiColor.colorize("K", AnsiColor.MAGENTA)).append("=Koulou\n");
-        sb.append("Occupancy: ");
-        sb.append(AnsiColor.colorize("H#", AnsiColor.GREEN)).append(" = hero (level shown), ");
-        sb.append(AnsiColor.colorize("M#", AnsiColor.RED)).append(" = monster. H#/M# indicates co-occupancy.\n");
-        return sb.toString();
+        sb.append(LEGEND);
+    }
+
+    // "+------+------+...+\n" for a row of cols cells, kept for the next frame
+    private String border(int cols) {
+        if (border == null || border.length() != cols * 7 + 2) {
+            StringBuilder b = new StringBuilder("+");
+            for (int i = 0; i < cols; i++) b.append("------+");
+            b.append('\n');
+            border = b.toString();
+        }
+        return border;
     }
 
     @Override
@@ -1,103 +1,195 @@
 package world;
 
 import utils.GameConstants;
+import utils.Rng;
 import utils.TileType;
-import java.util.Random;
 
-// World map - 8x8 grid of tiles
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// World map - grid of tiles (8x8 by default, or unbounded)
 // Generates the map, tracks party position, handles movement
-public class WorldMap {
+// Tiles are generated on first access from a seed and the cell coordinates, so
+// the same seed always gives the same world no matter which way it's explored.
+// They're kept in CHUNK_SIZE x CHUNK_SIZE chunks, and only the most recently used
+// MAX_CACHED_CHUNKS chunks stay in memory - an evicted chunk is simply generated
+// again (identically) when it's visited again, so memory stays flat however far
+// the party walks.
+public class WorldMap implements PathGraph {
+    // size value for a world with no edges (see unbounded())
+    public static final int UNBOUNDED = 0;
+
+    private static final int CHUNK_SHIFT = 4;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 16x16 tiles per chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CACHED_CHUNKS = 64;
+
     private final int size;
-    private final Tile[][] grid;
+    private final long seed;
     private Position partyPosition;
-    private final Random random;
-    
+    private final Rng random;
+
+    // chunk key -> chunk, in access order; the eldest is dropped past MAX_CACHED_CHUNKS
+    private final Map<Long, Chunk> chunks = new LinkedHashMap<Long, Chunk>(MAX_CACHED_CHUNKS * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+            return size() > MAX_CACHED_CHUNKS;
+        }
+    };
+    // last chunk looked up, so walking around inside one chunk skips the map
+    private Chunk lastChunk;
+
+    // displayMap() builds every frame in the same buffer; the border row and legend never change
+    private final StringBuilder displayBuffer = new StringBuilder(512);
+    private String border;
+    private static final String LEGEND = "\nLegend: P=Party, M=Market, X=Inaccessible, ' '=Common\n";
+
     public WorldMap(int size) {
+        this(size, new Rng());
+    }
+
+    // random stream drives map generation and battle rolls (seed it for reproducible worlds)
+    public WorldMap(int size, Rng random) {
+        if (size < 0) {
+            throw new IllegalArgumentException("World size must be positive (or UNBOUNDED), got " + size);
+        }
         this.size = size;
-        this.grid = new Tile[size][size];
-        this.random = new Random();
+        this.random = random;
+        this.seed = random.nextLong();
         generateMap();
     }
-    
-    // randomly generate the map with different tile types
+
+    // world with no edges: explore in any direction for as long as you like
+    public static WorldMap unbounded(Rng random) {
+        return new WorldMap(UNBOUNDED, random);
+    }
+
+    // nothing to generate up front - just put the party on the start tile
     private void generateMap() {
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                double rand = random.nextDouble();
-                
-                if (rand < GameConstants.INACCESSIBLE_TILE_RATIO) {
-                    grid[row][col] = new Tile(TileType.INACCESSIBLE);
-                } else if (rand < GameConstants.INACCESSIBLE_TILE_RATIO + GameConstants.MARKET_TILE_RATIO) {
-                    grid[row][col] = new Tile(TileType.MARKET);
-                } else {
-                    grid[row][col] = new Tile(TileType.COMMON);
-                }
-            }
-        }
-        
-        // Ensure starting position is accessible
-        partyPosition = findAccessibleStartingPosition();
+        // the origin is always generated as a common tile, so it's a safe start
+        partyPosition = Position.of(0, 0);
         getTileAt(partyPosition).setHasParty(true);
     }
-    
-    // find an accessible tile to start the party on
-    private Position findAccessibleStartingPosition() {
-        // Start from top-left and find first accessible tile
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                if (grid[row][col].isAccessible()) {
-                    return new Position(row, col);
-                }
-            }
+
+    // terrain of one cell: a pure function of the seed and the coordinates
+    private TileType terrainAt(int row, int col) {
+        if (row == 0 && col == 0) {
+            return TileType.COMMON;
+        }
+        long h = mix(seed ^ mix(((long) row << 32) ^ (col & 0xFFFFFFFFL)));
+        double rand = (h >>> 11) * 0x1.0p-53; // uniform in [0, 1)
+
+        if (rand < GameConstants.INACCESSIBLE_TILE_RATIO) {
+            return TileType.INACCESSIBLE;
+        } else if (rand < GameConstants.INACCESSIBLE_TILE_RATIO + GameConstants.MARKET_TILE_RATIO) {
+            return TileType.MARKET;
         }
-        // Fallback: make (0,0) accessible
-        grid[0][0] = new Tile(TileType.COMMON);
-        return new Position(0, 0);
+        return TileType.COMMON;
     }
-    
+
+    // SplitMix64 finaliser
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // chunk holding (row, col), generated if it isn't cached
+    private Chunk chunkAt(int row, int col) {
+        int chunkRow = row >> CHUNK_SHIFT; // arithmetic shift: negative rows/cols work too
+        int chunkCol = col >> CHUNK_SHIFT;
+        Chunk last = lastChunk;
+        if (last != null && last.chunkRow == chunkRow && last.chunkCol == chunkCol) {
+            return last;
+        }
+
+        long key = ((long) chunkRow << 32) | (chunkCol & 0xFFFFFFFFL);
+        Chunk chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = new Chunk(chunkRow, chunkCol);
+            chunks.put(key, chunk);
+        }
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    @Override
     public int getSize() {
         return size;
     }
-    
+
+    // --- PathGraph: routes for the party ---
+
+    @Override
+    public boolean canStep(int fromRow, int fromCol, int toRow, int toCol) {
+        if (Math.abs(toRow - fromRow) + Math.abs(toCol - fromCol) != 1) return false;
+        if (!isUnbounded() && (toRow < 0 || toRow >= size || toCol < 0 || toCol >= size)) return false;
+        return chunkAt(toRow, toCol).tileAt(toRow, toCol).isAccessible();
+    }
+
+    // terrain never changes after generation (it's a function of the seed)
+    @Override
+    public long getTerrainVersion() {
+        return 0;
+    }
+
+    // the party is the only unit and never blocks its own steps
+    @Override
+    public long getOccupancyVersion() {
+        return 0;
+    }
+
+    public boolean isUnbounded() {
+        return size == UNBOUNDED;
+    }
+
+    // how many chunks are in memory right now (never more than MAX_CACHED_CHUNKS)
+    public int getCachedChunkCount() {
+        return chunks.size();
+    }
+
     public Position getPartyPosition() {
         return partyPosition;
     }
-    
+
     public Tile getTileAt(Position pos) {
         if (!isValidPosition(pos)) {
             return null;
         }
-        return grid[pos.getRow()][pos.getCol()];
+        return chunkAt(pos.getRow(), pos.getCol()).tileAt(pos.getRow(), pos.getCol());
     }
-    
+
     public Tile getCurrentTile() {
         return getTileAt(partyPosition);
     }
-    
+
     public boolean isValidPosition(Position pos) {
+        if (isUnbounded()) {
+            return pos != null;
+        }
         return pos.getRow() >= 0 && pos.getRow() < size &&
                pos.getCol() >= 0 && pos.getCol() < size;
     }
-    
+
     // try to move party to the new position (checks if valid)
     public boolean moveParty(Position newPosition) {
         if (!isValidPosition(newPosition)) {
             return false;
         }
-        
+
         Tile targetTile = getTileAt(newPosition);
         if (!targetTile.isAccessible()) {
             return false;
         }
-        
+
         // Update tile states
         getTileAt(partyPosition).setHasParty(false);
         partyPosition = newPosition;
         targetTile.setHasParty(true);
-        
+
         return true;
     }
-    
+
     // check if a battle should happen (40% chance on common tiles)
     public boolean shouldTriggerBattle() {
         Tile currentTile = getCurrentTile();
@@ -106,44 +198,97 @@ public class WorldMap {
         }
         return false;
     }
-    
+
     // create a string showing the map for display
+    // small bounded maps are shown whole; anything bigger is a WORLD_VIEW_SIZE window around the party
     public String displayMap() {
-        StringBuilder sb = new StringBuilder();
-        
-        // Top border
-        sb.append("+");
-        for (int col = 0; col < size; col++) {
-            sb.append("---+");
+        int view = GameConstants.WORLD_VIEW_SIZE;
+        StringBuilder sb = displayBuffer;
+        sb.setLength(0);
+        if (!isUnbounded() && size <= view) {
+            appendMap(sb, 0, 0, size, size);
+            return sb.toString();
+        }
+
+        int top = partyPosition.getRow() - view / 2;
+        int left = partyPosition.getCol() - view / 2;
+        if (!isUnbounded()) {
+            top = Math.max(0, Math.min(top, size - view));
+            left = Math.max(0, Math.min(left, size - view));
         }
-        sb.append("\n");
-        
+        sb.append("Rows ").append(top).append(" to ").append(top + view - 1)
+                .append(", columns ").append(left).append(" to ").append(left + view - 1).append('\n');
+        appendMap(sb, top, left, view, view);
+        return sb.toString();
+    }
+
+    // rows [top, top+rows) x columns [left, left+cols) plus the legend, appended to sb
+    private void appendMap(StringBuilder sb, int top, int left, int rows, int cols) {
+        String border = border(cols);
+
+        // Top border
+        sb.append(border);
+
         // Grid rows
-        for (int row = 0; row < size; row++) {
-            sb.append("|");
-            for (int col = 0; col < size; col++) {
-                sb.append(" ").append(grid[row][col].getDisplaySymbol()).append(" |");
+        for (int row = top; row < top + rows; row++) {
+            sb.append('|');
+            for (int col = left; col < left + cols; col++) {
+                Tile tile = chunkAt(row, col).tileAt(row, col);
+                sb.append(' ').append(tile.getDisplaySymbol()).append(" |");
             }
-            sb.append("\n");
-            
+            sb.append('\n');
+
             // Row separator
-            sb.append("+");
-            for (int col = 0; col < size; col++) {
-                sb.append("---+");
-            }
-            sb.append("\n");
+            sb.append(border);
         }
-        
+
         // Legend
-        sb.append("\nLegend: P=Party, M=Market, X=Inaccessible, ' '=Common\n");
-        
-        return sb.toString();
+        sb.append(LEGEND);
+    }
+
+    // "+---+---+...+\n" for cols columns, kept for the next call
+    private String border(int cols) {
+        if (border == null || border.length() != cols * 4 + 2) {
+            StringBuilder b = new StringBuilder("+");
+            for (int col = 0; col < cols; col++) {
+                b.append("---+");
+            }
+            b.append("\n");
+            border = b.toString();
+        }
+        return border;
     }
-    
+
     @Override
     public String toString() {
         return displayMap();
     }
-}
 
+    // CHUNK_SIZE x CHUNK_SIZE block of tiles, generated all at once on first use
+    private class Chunk {
+        final int chunkRow;
+        final int chunkCol;
+        final Tile[] tiles = new Tile[CHUNK_SIZE * CHUNK_SIZE];
+
+        Chunk(int chunkRow, int chunkCol) {
+            this.chunkRow = chunkRow;
+            this.chunkCol = chunkCol;
+            int baseRow = chunkRow << CHUNK_SHIFT;
+            int baseCol = chunkCol << CHUNK_SHIFT;
+            for (int r = 0; r < CHUNK_SIZE; r++) {
+                for (int c = 0; c < CHUNK_SIZE; c++) {
+                    tiles[(r << CHUNK_SHIFT) | c] = new Tile(terrainAt(baseRow + r, baseCol + c));
+                }
+            }
+            // the party's tile may have been evicted and regenerated: put the marker back
+            if (partyPosition != null && (partyPosition.getRow() >> CHUNK_SHIFT) == chunkRow
+                    && (partyPosition.getCol() >> CHUNK_SHIFT) == chunkCol) {
+                tileAt(partyPosition.getRow(), partyPosition.getCol()).setHasParty(true);
+            }
+        }
 
+        Tile tileAt(int row, int col) {
+            return tiles[((row & CHUNK_MASK) << CHUNK_SHIFT) | (col & CHUNK_MASK)];
+        }
+    }
+}